@@ -0,0 +1,47 @@
+-- Query plans for the hot booking queries, one per repository method.
+-- Run against a migrated database with realistic volume, e.g.
+--   psql -d campus_booking -f benchmarks/explain-hot-queries.sql
+-- The expected index is noted above each statement; a Seq Scan on bookings
+-- in any of these plans means an index is missing or not being chosen.
+
+-- existsConflictingBooking -> no_overlapping_bookings (GiST on facility_id, slot).
+-- facility_id must be bigint: btree_gist has no int8 = int4 operator.
+EXPLAIN (ANALYZE, COSTS OFF, SUMMARY ON)
+SELECT count(b.id) > 0 FROM bookings b
+WHERE b.facility_id = 7::bigint AND b.status <> 'CANCELLED'
+  AND b.slot && '[2025-06-01 10:00:00,2025-06-01 11:00:00)'::tsrange;
+
+-- findActiveBookingsByFacilityAndDate -> idx_bookings_active_facility_date
+EXPLAIN (ANALYZE, COSTS OFF, SUMMARY ON)
+SELECT b.id FROM bookings b
+WHERE b.facility_id = 7 AND b.date = '2025-06-01' AND b.status <> 'CANCELLED';
+
+-- findConflictingDates -> idx_bookings_active_facility_date (index-only)
+EXPLAIN (ANALYZE, COSTS OFF, SUMMARY ON)
+SELECT DISTINCT b.date FROM bookings b
+WHERE b.facility_id = 7 AND b.date IN ('2025-06-01', '2025-06-08', '2025-06-15')
+  AND b.status <> 'CANCELLED' AND b.start_time < '11:00' AND b.end_time > '10:00';
+
+-- findResponsesByUserId -> idx_bookings_user_date
+EXPLAIN (ANALYZE, COSTS OFF, SUMMARY ON)
+SELECT b.id, u.email, f.name, b.date FROM bookings b
+JOIN users u ON u.id = b.user_id JOIN facilities f ON f.id = b.facility_id
+WHERE u.id = 17 ORDER BY b.date, b.start_time;
+
+-- findResponsesByFacilityId -> idx_bookings_facility_date
+EXPLAIN (ANALYZE, COSTS OFF, SUMMARY ON)
+SELECT b.id, u.email, f.name, b.date FROM bookings b
+JOIN users u ON u.id = b.user_id JOIN facilities f ON f.id = b.facility_id
+WHERE f.id = 17 ORDER BY b.date, b.start_time;
+
+-- findActiveSlotsBetween -> idx_bookings_active_facility_date
+EXPLAIN (ANALYZE, COSTS OFF, SUMMARY ON)
+SELECT b.id, b.facility_id, b.date, b.start_time, b.end_time FROM bookings b
+WHERE b.facility_id IN (1, 2, 3) AND b.date BETWEEN '2025-06-01' AND '2025-06-07'
+  AND b.status <> 'CANCELLED';
+
+-- findPageAfter (keyset page) -> idx_bookings_date_id, no Sort node
+EXPLAIN (ANALYZE, COSTS OFF, SUMMARY ON)
+SELECT b.id, b.date FROM bookings b
+WHERE b.date > '2025-06-01' OR (b.date = '2025-06-01' AND b.id > 100)
+ORDER BY b.date, b.id FETCH FIRST 101 ROWS ONLY;
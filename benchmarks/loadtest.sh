@@ -0,0 +1,55 @@
+#!/usr/bin/env bash
+# Compares platform and virtual thread request execution on
+# POST /api/bookings and GET /api/bookings/check-availability.
+#
+# Starts the application jar once per mode (VIRTUAL_THREADS=false, then true)
+# against the database configured in the environment (DATABASE_URL or
+# DB_USERNAME/DB_PASSWORD, as for a normal run) and drives it with LoadTest.
+# The virtual-thread run needs a Java 21+ runtime and is skipped on older ones.
+#
+# Usage (from the repository root):
+#   mvn -B install -DskipTests && mvn -B -f benchmarks/pom.xml package -DskipTests
+#   USER_ID=1 FACILITY_ID=1 CONCURRENCY=400 DURATION=30 benchmarks/loadtest.sh
+set -euo pipefail
+
+APP_JAR=${APP_JAR:-target/booking-0.0.1-SNAPSHOT.jar}
+BENCH_JAR=${BENCH_JAR:-benchmarks/target/benchmarks.jar}
+PORT=${PORT:-8090}
+CONCURRENCY=${CONCURRENCY:-200}
+DURATION=${DURATION:-30}
+USER_ID=${USER_ID:-1}
+FACILITY_ID=${FACILITY_ID:-1}
+
+modes="false true"
+java_major=$(java -XshowSettings:properties -version 2>&1 | awk -F'= ' '/java.specification.version/ {print $2}')
+if [ "${java_major%%.*}" -lt 21 ]; then
+    echo "Java $java_major found: virtual threads need Java 21+, skipping the VIRTUAL_THREADS=true run" >&2
+    modes="false"
+fi
+
+for virtual in $modes; do
+    echo "=== VIRTUAL_THREADS=$virtual ==="
+    VIRTUAL_THREADS=$virtual java -jar "$APP_JAR" --server.port="$PORT" \
+        --booking.sql.log.sample-rate=0 --booking.rate-limit.enabled=false > "loadtest-app-virtual-$virtual.log" 2>&1 &
+    app_pid=$!
+    trap 'kill $app_pid 2>/dev/null' EXIT
+
+    for _ in $(seq 60); do
+        curl -sf "http://localhost:$PORT/actuator/health" > /dev/null && break
+        sleep 1
+    done
+    if ! curl -sf "http://localhost:$PORT/actuator/health" > /dev/null; then
+        echo "Application did not start, see loadtest-app-virtual-$virtual.log" >&2
+        exit 1
+    fi
+
+    for scenario in check create; do
+        java -cp "$BENCH_JAR" com.example.booking.loadtest.LoadTest \
+            url="http://localhost:$PORT" scenario="$scenario" concurrency="$CONCURRENCY" \
+            duration="$DURATION" userId="$USER_ID" facilityId="$FACILITY_ID"
+    done
+
+    kill "$app_pid"
+    wait "$app_pid" 2>/dev/null || true
+    trap - EXIT
+done
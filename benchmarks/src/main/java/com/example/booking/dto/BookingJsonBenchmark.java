@@ -0,0 +1,70 @@
+package com.example.booking.dto;
+
+import com.example.booking.model.BookingStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON serialization of booking lists, both as the array returned by
+ * GET /api/bookings and row by row as written by the NDJSON export.
+ * The ObjectMapper is built with the same defaults Spring Boot applies.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BookingJsonBenchmark {
+
+    @Param({"100", "10000", "100000"})
+    int bookings;
+
+    private ObjectMapper objectMapper;
+    private List<BookingResponse> responses;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        LocalDate firstDate = LocalDate.of(2030, 1, 1);
+        LocalDateTime createdAt = LocalDateTime.of(2029, 12, 1, 9, 0);
+        responses = new ArrayList<>(bookings);
+        for (int i = 0; i < bookings; i++) {
+            LocalTime start = LocalTime.of(8, 0).plusMinutes(30L * (i % 24));
+            responses.add(new BookingResponse((long) i + 1, 1L, "bench@example.com", "Bench",
+                    1L, "Bench Hall", firstDate.plusDays(i / 24), start, start.plusMinutes(30),
+                    BookingStatus.CONFIRMED, "Benchmark booking " + i, null, createdAt));
+        }
+    }
+
+    @Benchmark
+    public byte[] writeArray() throws Exception {
+        return objectMapper.writeValueAsBytes(responses);
+    }
+
+    @Benchmark
+    public void writeNdjsonRows(Blackhole blackhole) throws Exception {
+        for (BookingResponse response : responses) {
+            blackhole.consume(objectMapper.writeValueAsBytes(response));
+        }
+    }
+}
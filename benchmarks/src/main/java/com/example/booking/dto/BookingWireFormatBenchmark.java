@@ -0,0 +1,108 @@
+package com.example.booking.dto;
+
+import com.example.booking.model.BookingStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Bytes on the wire and serialization CPU of a GET /api/bookings response
+ * in each format the API negotiates (JSON, Smile, CBOR), with and without
+ * the Blackbird module and with and without gzip as applied by
+ * server.compression. The encoded sizes are printed once per trial.
+ * The rows use 50 users and 10 facilities, so the repeated strings are
+ * about as varied as in a real listing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BookingWireFormatBenchmark {
+
+    @Param({"json", "smile", "cbor"})
+    String format;
+
+    @Param({"false", "true"})
+    boolean blackbird;
+
+    @Param({"10000"})
+    int bookings;
+
+    private ObjectMapper objectMapper;
+    private List<BookingResponse> responses;
+
+    @Setup
+    public void setUp() throws IOException {
+        // Configured as in JacksonConfig on top of Spring Boot's defaults
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        if (blackbird) {
+            builder.modulesToInstall(new BlackbirdModule());
+        }
+        switch (format) {
+            case "smile" -> builder.factory(SmileFactory.builder()
+                    .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                    .build());
+            case "cbor" -> builder.factory(new CBORFactory());
+            default -> { }
+        }
+        objectMapper = builder.build();
+
+        LocalDate firstDate = LocalDate.of(2030, 1, 1);
+        LocalDateTime createdAt = LocalDateTime.of(2029, 12, 1, 9, 0);
+        responses = new ArrayList<>(bookings);
+        for (int i = 0; i < bookings; i++) {
+            long user = i % 50 + 1;
+            long facility = i % 10 + 1;
+            LocalTime start = LocalTime.of(8, 0).plusMinutes(30L * (i % 24));
+            responses.add(new BookingResponse((long) i + 1, user, "user" + user + "@campus.example.edu",
+                    "User " + user, facility, "Lecture Hall " + facility, firstDate.plusDays(i / 24),
+                    start, start.plusMinutes(30), BookingStatus.CONFIRMED, "Benchmark booking " + i,
+                    null, createdAt));
+        }
+
+        System.out.printf("%n%s, %d bookings: %d bytes, %d bytes gzipped%n",
+                format, bookings, writeArray().length, writeArrayGzipped().length);
+    }
+
+    @Benchmark
+    public byte[] writeArray() throws IOException {
+        return objectMapper.writeValueAsBytes(responses);
+    }
+
+    @Benchmark
+    public byte[] writeArrayGzipped() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes, 8192)) {
+            objectMapper.writeValue(gzip, responses);
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,180 @@
+package com.example.booking.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Closed-loop HTTP load generator for a running instance: {@code concurrency}
+ * clients send requests back to back for {@code duration} seconds and the
+ * latency distribution is printed at the end. Used by loadtest.sh to compare
+ * platform and virtual thread request execution.
+ *
+ * Arguments are key=value pairs:
+ * <pre>
+ *   url=http://localhost:8081  scenario=create|check  concurrency=200
+ *   duration=30  userId=1  facilityId=1  firstDay=&lt;days from today&gt;
+ * </pre>
+ * {@code create} books consecutive half-hour slots starting at
+ * {@code firstDay} (random far-future day by default, so repeated runs do
+ * not collide); {@code check} asks about random slots in the next 60 days.
+ */
+public class LoadTest {
+
+    private static final int SLOTS_PER_DAY = 24;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+    private final AtomicLong sequence = new AtomicLong();
+
+    private final String url;
+    private final String scenario;
+    private final int concurrency;
+    private final int durationSeconds;
+    private final long userId;
+    private final long facilityId;
+    private final LocalDate firstDay;
+
+    LoadTest(Map<String, String> args) {
+        this.url = args.getOrDefault("url", "http://localhost:8081");
+        this.scenario = args.getOrDefault("scenario", "check");
+        this.concurrency = Integer.parseInt(args.getOrDefault("concurrency", "200"));
+        this.durationSeconds = Integer.parseInt(args.getOrDefault("duration", "30"));
+        this.userId = Long.parseLong(args.getOrDefault("userId", "1"));
+        this.facilityId = Long.parseLong(args.getOrDefault("facilityId", "1"));
+        long defaultDay = 365 + ThreadLocalRandom.current().nextInt(100_000);
+        this.firstDay = LocalDate.now().plusDays(Long.parseLong(args.getOrDefault("firstDay", "" + defaultDay)));
+        if (!scenario.equals("create") && !scenario.equals("check")) {
+            throw new IllegalArgumentException("scenario must be create or check");
+        }
+    }
+
+    public static void main(String[] argv) throws Exception {
+        Map<String, String> args = new HashMap<>();
+        for (String arg : argv) {
+            int eq = arg.indexOf('=');
+            if (eq < 0) {
+                throw new IllegalArgumentException("Expected key=value, got: " + arg);
+            }
+            args.put(arg.substring(0, eq), arg.substring(eq + 1));
+        }
+        new LoadTest(args).run();
+    }
+
+    void run() throws Exception {
+        long deadline = System.nanoTime() + Duration.ofSeconds(durationSeconds).toNanos();
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        List<Future<Result>> futures = new ArrayList<>(concurrency);
+        long started = System.nanoTime();
+        for (int i = 0; i < concurrency; i++) {
+            futures.add(workers.submit(() -> drive(deadline)));
+        }
+        Result total = new Result();
+        for (Future<Result> future : futures) {
+            total.merge(future.get());
+        }
+        double elapsed = (System.nanoTime() - started) / 1e9;
+        workers.shutdown();
+        report(total, elapsed);
+    }
+
+    private Result drive(long deadline) {
+        Result result = new Result();
+        while (System.nanoTime() < deadline) {
+            HttpRequest request = scenario.equals("create") ? createRequest() : checkRequest();
+            long start = System.nanoTime();
+            int status;
+            try {
+                status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+            } catch (Exception e) {
+                status = -1;
+            }
+            result.record(System.nanoTime() - start, status);
+        }
+        return result;
+    }
+
+    private HttpRequest createRequest() {
+        long n = sequence.getAndIncrement();
+        LocalTime start = LocalTime.of(8, 0).plusMinutes(30 * (n % SLOTS_PER_DAY));
+        String body = "{\"userId\":" + userId
+                + ",\"facilityId\":" + facilityId
+                + ",\"date\":\"" + firstDay.plusDays(n / SLOTS_PER_DAY)
+                + "\",\"startTime\":\"" + start
+                + "\",\"endTime\":\"" + start.plusMinutes(29)
+                + "\",\"purpose\":\"Load test\"}";
+        return HttpRequest.newBuilder(URI.create(url + "/api/bookings"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private HttpRequest checkRequest() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        LocalDate date = LocalDate.now().plusDays(1 + random.nextInt(60));
+        LocalTime start = LocalTime.of(8, 0).plusMinutes(30L * random.nextInt(SLOTS_PER_DAY));
+        return HttpRequest.newBuilder(URI.create(url + "/api/bookings/check-availability"
+                        + "?facilityId=" + facilityId + "&date=" + date
+                        + "&startTime=" + start + "&endTime=" + start.plusMinutes(29)))
+                .GET()
+                .build();
+    }
+
+    private void report(Result total, double elapsed) {
+        long[] latencies = Arrays.copyOf(total.latencies, total.count);
+        Arrays.sort(latencies);
+        System.out.printf("scenario=%s concurrency=%d duration=%.1fs%n", scenario, concurrency, elapsed);
+        System.out.printf("  requests=%d throughput=%.1f req/s statuses=%s%n",
+                total.count, total.count / elapsed, new TreeMap<>(total.statuses));
+        if (latencies.length > 0) {
+            System.out.printf("  latency ms: p50=%.2f p95=%.2f p99=%.2f max=%.2f%n",
+                    percentile(latencies, 0.50), percentile(latencies, 0.95),
+                    percentile(latencies, 0.99), latencies[latencies.length - 1] / 1e6);
+        }
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1e6;
+    }
+
+    private static final class Result {
+        long[] latencies = new long[1024];
+        int count;
+        final Map<Integer, Integer> statuses = new HashMap<>();
+
+        void record(long nanos, int status) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = nanos;
+            statuses.merge(status, 1, Integer::sum);
+        }
+
+        void merge(Result other) {
+            int needed = count + other.count;
+            if (needed > latencies.length) {
+                latencies = Arrays.copyOf(latencies, needed);
+            }
+            System.arraycopy(other.latencies, 0, latencies, count, other.count);
+            count = needed;
+            other.statuses.forEach((status, n) -> statuses.merge(status, n, Integer::sum));
+        }
+    }
+}
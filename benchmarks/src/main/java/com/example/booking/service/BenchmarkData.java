@@ -0,0 +1,88 @@
+package com.example.booking.service;
+
+import com.example.booking.model.Booking;
+import com.example.booking.model.BookingStatus;
+import com.example.booking.model.Facility;
+import com.example.booking.model.Role;
+import com.example.booking.model.User;
+import com.example.booking.repository.BookingRepository;
+import com.example.booking.repository.BookingSlot;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Synthetic bookings shared by the benchmarks.
+ */
+final class BenchmarkData {
+
+    static final LocalTime DAY_START = LocalTime.of(8, 0);
+    static final int DAY_SECONDS = 12 * 60 * 60;
+    static final int BOOKING_SECONDS = 30 * 60;
+
+    private BenchmarkData() {}
+
+    /**
+     * {@code count} half-hour bookings with start times spread evenly over
+     * 08:00-20:00. Past a few dozen per day they overlap each other, which
+     * only the conflict checks care about, not how the rows were stored.
+     * The last one ends before 20:30, so 20:30 onwards is always free.
+     */
+    static List<Slot> slots(Long facilityId, LocalDate date, int count) {
+        List<Slot> slots = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            LocalTime start = DAY_START.plusSeconds((long) i * DAY_SECONDS / count);
+            slots.add(new Slot((long) i + 1, facilityId, date, start, start.plusSeconds(BOOKING_SECONDS - 1)));
+        }
+        return slots;
+    }
+
+    /**
+     * A BookingRepository stand-in that only answers the startup query of
+     * {@link BookingIntervalIndex}.
+     */
+    static BookingRepository repositoryReturning(List<? extends BookingSlot> slots) {
+        return (BookingRepository) Proxy.newProxyInstance(
+                BookingRepository.class.getClassLoader(),
+                new Class<?>[] { BookingRepository.class },
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findActiveSlotsFrom")) {
+                        return List.copyOf(slots);
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    static List<Booking> bookings(int count) {
+        User user = new User("bench@example.com", "Bench", "password", Role.STUDENT);
+        Facility facility = new Facility("Bench Hall", "Benchmarks", 50);
+        facility.setId(1L);
+
+        LocalDate firstDate = LocalDate.of(2030, 1, 1);
+        LocalDateTime createdAt = LocalDateTime.of(2029, 12, 1, 9, 0);
+        List<Booking> bookings = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            LocalTime start = DAY_START.plusMinutes(30L * (i % 24));
+            Booking booking = new Booking(user, facility, firstDate.plusDays(i / 24),
+                    start, start.plusMinutes(30), "Benchmark booking " + i);
+            booking.setId((long) i + 1);
+            booking.setStatus(BookingStatus.CONFIRMED);
+            booking.setCreatedAt(createdAt);
+            bookings.add(booking);
+        }
+        return bookings;
+    }
+
+    record Slot(Long id, Long facilityId, LocalDate date, LocalTime startTime, LocalTime endTime)
+            implements BookingSlot {
+        @Override public Long getId() { return id; }
+        @Override public Long getFacilityId() { return facilityId; }
+        @Override public LocalDate getDate() { return date; }
+        @Override public LocalTime getStartTime() { return startTime; }
+        @Override public LocalTime getEndTime() { return endTime; }
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.booking.service;
+
+import com.example.booking.dto.BookingResponse;
+import com.example.booking.model.Booking;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to DTO mapping (BookingService.convertToResponse) for lists of
+ * bookings, with the associations already loaded.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BookingMappingBenchmark {
+
+    @Param({"1", "1000", "100000"})
+    int bookings;
+
+    private List<Booking> source;
+
+    @Setup
+    public void setUp() {
+        source = BenchmarkData.bookings(bookings);
+    }
+
+    @Benchmark
+    public List<BookingResponse> convertToResponse() {
+        List<BookingResponse> responses = new ArrayList<>(source.size());
+        for (Booking booking : source) {
+            responses.add(BookingService.convertToResponse(booking));
+        }
+        return responses;
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.booking.service;
+
+import com.example.booking.model.TimeRange;
+import com.example.booking.repository.BookingRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Overlap checks for one facility-day holding {@code bookingsPerDay}
+ * bookings, answered by the in-memory interval index and by the
+ * existsConflictingBooking query (a GiST lookup on bookings.slot) against
+ * embedded PostgreSQL.
+ *
+ * The "free" probes ask for a range after the last booking, which is the
+ * worst case for both: every booking of the day has to be looked at.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConflictDetectionBenchmark {
+
+    private static final LocalTime FREE_START = LocalTime.of(20, 30);
+    private static final LocalTime FREE_END = LocalTime.of(21, 30);
+    private static final LocalTime BUSY_START = LocalTime.of(12, 0);
+    private static final LocalTime BUSY_END = LocalTime.of(12, 30);
+
+    @Param({"10", "1000", "100000"})
+    int bookingsPerDay;
+
+    private EmbeddedBookingApp app;
+    private BookingRepository bookingRepository;
+    private BookingIntervalIndex index;
+    private Long facilityId;
+    private LocalDate date;
+    private TimeRange freeRange;
+    private TimeRange busyRange;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        app = EmbeddedBookingApp.start();
+        bookingRepository = app.getBean(BookingRepository.class);
+        facilityId = app.facilityId;
+        date = LocalDate.now().plusDays(1);
+        freeRange = TimeRange.of(date, FREE_START, FREE_END);
+        busyRange = TimeRange.of(date, BUSY_START, BUSY_END);
+
+        List<BenchmarkData.Slot> slots = BenchmarkData.slots(facilityId, date, bookingsPerDay);
+        app.insertBookings(date, slots);
+        index = new BookingIntervalIndex(BenchmarkData.repositoryReturning(slots));
+        index.rebuild();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        app.close();
+    }
+
+    @Benchmark
+    public boolean indexFree() {
+        return index.hasConflict(facilityId, date, FREE_START, FREE_END, null);
+    }
+
+    @Benchmark
+    public boolean indexConflict() {
+        return index.hasConflict(facilityId, date, BUSY_START, BUSY_END, null);
+    }
+
+    @Benchmark
+    public boolean queryFree() {
+        return bookingRepository.existsConflictingBooking(facilityId, freeRange, null);
+    }
+
+    @Benchmark
+    public boolean queryConflict() {
+        return bookingRepository.existsConflictingBooking(facilityId, busyRange, null);
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.booking.service;
+
+import com.example.booking.dto.BookingRequest;
+import com.example.booking.dto.BookingResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end BookingService.createBooking against embedded PostgreSQL: cached user and
+ * facility lookups, index reservation, insert and commit. Every call books
+ * the next free half hour, so none of them conflict.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CreateBookingBenchmark {
+
+    private static final int SLOTS_PER_DAY = 24;
+
+    private EmbeddedBookingApp app;
+    private BookingService bookingService;
+    private LocalDate firstDate;
+    private long calls;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        app = EmbeddedBookingApp.start();
+        bookingService = app.getBean(BookingService.class);
+        firstDate = LocalDate.now().plusDays(1);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        app.close();
+    }
+
+    @Benchmark
+    public BookingResponse createBooking() {
+        long n = calls++;
+        LocalTime start = BenchmarkData.DAY_START.plusMinutes(30 * (n % SLOTS_PER_DAY));
+
+        BookingRequest request = new BookingRequest();
+        request.setUserId(app.userId);
+        request.setFacilityId(app.facilityId);
+        request.setDate(firstDate.plusDays(n / SLOTS_PER_DAY));
+        request.setStartTime(start);
+        request.setEndTime(start.plusMinutes(29));
+        request.setPurpose("Benchmark");
+        return bookingService.createBooking(request);
+    }
+}
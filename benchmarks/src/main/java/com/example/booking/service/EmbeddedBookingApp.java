@@ -0,0 +1,115 @@
+package com.example.booking.service;
+
+import com.example.booking.BookingApplication;
+import com.example.booking.model.Facility;
+import com.example.booking.model.Role;
+import com.example.booking.model.User;
+import com.example.booking.repository.FacilityRepository;
+import com.example.booking.repository.UserRepository;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Date;
+import java.sql.Time;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Starts the application (without the web server) against a private
+ * embedded PostgreSQL server, with one user and one facility to book against.
+ * The schema comes from the Flyway migrations, as in production.
+ */
+final class EmbeddedBookingApp implements AutoCloseable {
+
+    // Keeps benchmark-inserted ids clear of the ids handed out by the sequence
+    private static final long FIRST_SEEDED_ID = 1_000_000_000L;
+
+    private final EmbeddedPostgres postgres;
+    final ConfigurableApplicationContext context;
+    final Long userId;
+    final Long facilityId;
+
+    private EmbeddedBookingApp(EmbeddedPostgres postgres, ConfigurableApplicationContext context,
+            Long userId, Long facilityId) {
+        this.postgres = postgres;
+        this.context = context;
+        this.userId = userId;
+        this.facilityId = facilityId;
+    }
+
+    static EmbeddedBookingApp start() {
+        EmbeddedPostgres postgres;
+        try {
+            // Durability is not what is being measured
+            postgres = EmbeddedPostgres.builder()
+                    .setServerConfig("fsync", "off")
+                    .setServerConfig("synchronous_commit", "off")
+                    .start();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not start embedded PostgreSQL", e);
+        }
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(BookingApplication.class)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                .run("--spring.datasource.url=" + postgres.getJdbcUrl("postgres", "postgres"),
+                        "--spring.datasource.username=postgres",
+                        "--spring.datasource.password=",
+                        "--booking.sql.log.sample-rate=0",
+                        "--spring.main.banner-mode=off",
+                        "--logging.level.root=WARN");
+
+        // The synthetic days overlap themselves (see BenchmarkData.slots), which
+        // the exclusion constraint would reject; keep the same GiST index without it
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+        jdbc.execute("ALTER TABLE bookings DROP CONSTRAINT no_overlapping_bookings");
+        jdbc.execute("CREATE INDEX bench_bookings_slot ON bookings USING gist (facility_id, slot) "
+                + "WHERE status != 'CANCELLED'");
+
+        User user = context.getBean(UserRepository.class)
+                .save(new User("bench@example.com", "Bench", "password", Role.STUDENT));
+        Facility facility = new Facility("Bench Hall", "Benchmarks", 50);
+        facility.setIsAvailable(true);
+        facility = context.getBean(FacilityRepository.class).save(facility);
+        return new EmbeddedBookingApp(postgres, context, user.getId(), facility.getId());
+    }
+
+    <T> T getBean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    /**
+     * Inserts the given slots as confirmed bookings with plain JDBC batches,
+     * bypassing the service (and therefore the interval index).
+     */
+    void insertBookings(LocalDate date, List<BenchmarkData.Slot> slots) {
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+        jdbc.batchUpdate(
+                "INSERT INTO bookings (id, user_id, facility_id, date, start_time, end_time, status) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, 'CONFIRMED')",
+                slots, 1000, (ps, slot) -> {
+                    ps.setLong(1, FIRST_SEEDED_ID + slot.getId());
+                    ps.setLong(2, userId);
+                    ps.setLong(3, facilityId);
+                    ps.setDate(4, Date.valueOf(date));
+                    ps.setTime(5, Time.valueOf(slot.getStartTime()));
+                    ps.setTime(6, Time.valueOf(slot.getEndTime()));
+                });
+        jdbc.execute("ANALYZE bookings");
+    }
+
+    @Override
+    public void close() {
+        context.close();
+        try {
+            postgres.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+#!/usr/bin/env bash
+# Measures cold-start time and resident memory of the application in each
+# way it can be packaged:
+#
+#   jar     the fat jar from `mvn package`, as `java -jar`
+#   cds     the same jar extracted into its layers and started from an
+#           AppCDS archive recorded by a training run (what Dockerfile does)
+#   aot     the AOT-processed jar from `mvn -Pnative package`, on the JVM
+#           with -Dspring.aot.enabled=true
+#   native  the native executable from `mvn -Pnative native:compile`
+#           (needs GraalVM)
+#
+# Modes whose artifact is missing are skipped. Each mode is started RUNS
+# times against the database configured in the environment (DATABASE_URL
+# or DB_USERNAME/DB_PASSWORD, as for a normal run). Reported per run: time
+# from launch until /actuator/health answers, Spring's own "Started ... in"
+# time, and VmRSS once ready and again after WARMUP list requests.
+#
+# Usage (from the repository root). AOT processing leaves pre-generated CGLIB
+# proxy classes in target/classes, so a plain build after a -Pnative one
+# fails until `mvn clean` has removed them.
+#   mvn -B clean package -DskipTests && benchmarks/startup.sh
+#   mvn -B clean -Pnative package -DskipTests && MODES="aot" benchmarks/startup.sh
+#   mvn -B clean -Pnative native:compile -DskipTests && MODES="native" benchmarks/startup.sh
+set -euo pipefail
+
+APP_JAR=${APP_JAR:-target/booking-0.0.1-SNAPSHOT.jar}
+NATIVE_BIN=${NATIVE_BIN:-target/booking}
+MODES=${MODES:-jar cds aot native}
+RUNS=${RUNS:-3}
+WARMUP=${WARMUP:-200}
+PORT=${PORT:-8091}
+WORK=${WORK:-target/startup-bench}
+
+# Settings that let the CDS training run start without a database; it
+# exits as soon as the context has been refreshed
+TRAINING_ARGS=(--spring.flyway.enabled=false --spring.jpa.hibernate.ddl-auto=none
+    --spring.jpa.properties.hibernate.temp.use_jdbc_metadata_defaults=false
+    --spring.jpa.database-platform=org.hibernate.dialect.PostgreSQLDialect
+    --spring.datasource.hikari.initialization-fail-timeout=-1)
+
+APP_ARGS=(--server.port="$PORT" --booking.sql.log.sample-rate=0 --booking.rate-limit.enabled=false
+    --booking.archive.enabled=false)
+
+now_ms() { date +%s%3N; }
+rss_mb() { awk '/VmRSS/ {printf "%d", $2 / 1024}' "/proc/$1/status"; }
+
+is_aot_jar() {
+    unzip -p "$APP_JAR" META-INF/MANIFEST.MF 2>/dev/null | grep -q 'Spring-Boot-Native-Processed: true'
+}
+
+prepare_cds() {
+    rm -rf "$WORK" && mkdir -p "$WORK"
+    java -Djarmode=layertools -jar "$APP_JAR" extract --destination "$WORK/layers"
+    mkdir -p "$WORK/app"
+    cp -r "$WORK"/layers/*/BOOT-INF "$WORK/app/"
+    # CDS only archives classes loaded from jar files, so pack the application classes
+    jar --create --file "$WORK/app/app.jar" -C "$WORK/app/BOOT-INF/classes" .
+    rm -rf "$WORK/app/BOOT-INF/classes"
+    (cd "$WORK/app" && java -XX:ArchiveClassesAtExit=app.jsa -Dspring.context.exit=onRefresh \
+        -cp 'app.jar:BOOT-INF/lib/*' com.example.booking.BookingApplication "${TRAINING_ARGS[@]}" \
+        > training.log 2>&1)
+}
+
+# Prints the command line for a mode, or nothing if it cannot run here
+command_for() {
+    case "$1" in
+        jar) [ -f "$APP_JAR" ] && echo "java -jar $APP_JAR" ;;
+        cds) [ -f "$WORK/app/app.jsa" ] && \
+            echo "java -XX:SharedArchiveFile=app.jsa -cp app.jar:BOOT-INF/lib/* com.example.booking.BookingApplication" ;;
+        aot) [ -f "$APP_JAR" ] && is_aot_jar && echo "java -Dspring.aot.enabled=true -jar $APP_JAR" ;;
+        native) [ -x "$NATIVE_BIN" ] && echo "$NATIVE_BIN" ;;
+    esac
+}
+
+run_once() {
+    local mode=$1 cmd=$2 dir=. log
+    log=$(pwd)/"$WORK-$mode.log"
+    [ "$mode" = cds ] && dir="$WORK/app"
+    local start
+    start=$(now_ms)
+    # Word splitting is intended: cmd is a plain command line without quoted parts
+    # shellcheck disable=SC2086
+    (cd "$dir" && set -f && exec $cmd "${APP_ARGS[@]}") > "$log" 2>&1 &
+    local pid=$!
+    until curl -sf "http://localhost:$PORT/actuator/health" > /dev/null; do
+        if ! kill -0 "$pid" 2>/dev/null; then
+            echo "$mode: exited during startup, see $log" >&2
+            return 1
+        fi
+        sleep 0.05
+    done
+    local ready=$(( $(now_ms) - start ))
+    local started
+    started=$(grep -o 'Started BookingApplication in [0-9.]* seconds' "$log" | grep -o '[0-9.]*' || echo '?')
+    local rss_ready
+    rss_ready=$(rss_mb "$pid")
+    for _ in $(seq "$WARMUP"); do
+        curl -sf "http://localhost:$PORT/api/bookings?limit=100" > /dev/null || true
+    done
+    local rss_warm
+    rss_warm=$(rss_mb "$pid")
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+    printf '%-7s %9s ms %11s s %10s MB %12s MB\n' "$mode" "$ready" "$started" "$rss_ready" "$rss_warm"
+}
+
+if [[ " $MODES " == *" cds "* ]] && [ -f "$APP_JAR" ]; then
+    echo "Recording CDS archive (training run)..."
+    prepare_cds
+fi
+
+printf '%-7s %12s %13s %13s %15s\n' mode "ready" "spring" "rss ready" "rss warm"
+for mode in $MODES; do
+    cmd=$(command_for "$mode" || true)
+    if [ -z "$cmd" ]; then
+        echo "$mode: skipped, artifact not built"
+        continue
+    fi
+    for _ in $(seq "$RUNS"); do
+        run_once "$mode" "$cmd"
+    done
+done
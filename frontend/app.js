@@ -6,6 +6,7 @@ const el = (id) => document.getElementById(id);
 
 let facilitiesCache = [];
 let bookingsCache = [];
+let syncCursor = null; // GET /sync cursor that bookingsCache is current up to
 
 // Multi-slot selection
 let slotSelectionStart = null;
@@ -13,6 +14,8 @@ let slotSelectionEnd = null;
 let allSlots = [];
 
 const CURRENT_USER_ID = 1;
+// Lets the server send this user's reads to the primary right after their own writes
+const USER_HEADERS = { 'X-User-Id': String(CURRENT_USER_ID) };
 let editingBookingId = null;
 const updateModalEl = document.getElementById('updateBookingModal');
 let updateModal = null;
@@ -140,6 +143,7 @@ async function friendlyError(responseOrError, context) {
     const status = responseOrError.status;
     if (status === 404) return 'Booking or facility not found.';
     if (status === 409) return 'That time slot is already taken. Please choose a different time.';
+    if (status === 429) return 'Too many requests. Please wait a moment and try again.';
     if (status === 400) return 'Invalid request — please check your details and try again.';
     if (status === 500) return 'Server issue. Please try again in a moment.';
   }
@@ -240,20 +244,29 @@ async function fetchFacilities() {
 }
 
 async function fetchBookings() {
-  for (const url of [`${API}/bookings`, `${API}/booking`]) {
-    try {
-      const res = await fetch(url);
-      if (!res.ok) throw new Error(await res.text());
-      return await res.json();
-    } catch (e) { /* try next */ }
-  }
-  throw new Error('Could not fetch bookings');
+  // The list is paged; keep following X-Next-Cursor until the last page
+  const all = [];
+  let cursor = null;
+  do {
+    const url = `${API}/bookings?limit=500` + (cursor ? `&cursor=${encodeURIComponent(cursor)}` : '');
+    const res = await fetch(url, { headers: USER_HEADERS });
+    if (!res.ok) throw new Error(await res.text());
+    all.push(...await res.json());
+    cursor = res.headers.get('X-Next-Cursor');
+  } while (cursor);
+  return all;
+}
+
+async function fetchChanges(since) {
+  const res = await fetch(`${API}/sync` + (since != null ? `?since=${since}` : ''));
+  if (!res.ok) throw new Error(await res.text());
+  return await res.json();
 }
 
 async function postBooking(payload) {
   const res = await fetch(`${API}/bookings`, {
     method: 'POST',
-    headers: { 'Content-Type': 'application/json' },
+    headers: { 'Content-Type': 'application/json', ...USER_HEADERS },
     body: JSON.stringify(payload)
   });
   const text = await res.text();
@@ -607,7 +620,10 @@ async function loadFacilities() {
 
 async function loadBookings() {
   try {
+    // Take the sync cursor first so nothing written during the load is skipped later
+    const cursor = await fetchChanges().then(c => c.cursor, () => null);
     bookingsCache = await fetchBookings();
+    syncCursor = cursor;
     renderBookings();
     renderFacilitiesList(); // refresh occupancy after bookings load
   } catch (e) {
@@ -652,6 +668,76 @@ async function loadAvailability() {
   renderSlots(availability);
 }
 
+// =========================================================
+// LIVE UPDATES
+// =========================================================
+// Booking changes are pushed over GET /bookings/stream and patched into
+// bookingsCache. Anything missed while disconnected is fetched from GET /sync,
+// so the page only does a full load on start.
+function upsertBooking(booking) {
+  const i = bookingsCache.findIndex(b => b.id === booking.id);
+  if (i >= 0) bookingsCache[i] = booking; else bookingsCache.push(booking);
+}
+
+function setBookingStatus(bookingId, status) {
+  const b = bookingsCache.find(x => x.id === bookingId);
+  if (b) b.status = status;
+}
+
+// Re-render lists; redraw the slot grid only if a change hit the facility/date on screen
+function refreshBookingViews(...touched) {
+  renderBookings();
+  renderFacilitiesList();
+  const facilityId = Number(el('availFacilitySelect')?.value);
+  const date = el('availDate')?.value;
+  if (touched.some(t => t && t.facilityId === facilityId && t.date === date)) loadAvailability();
+}
+
+function applyBookingEvent(type, event) {
+  if (type === 'created' || type === 'updated') upsertBooking(event.booking);
+  else if (type === 'cancelled') setBookingStatus(event.bookingId, 'CANCELLED');
+  else if (type === 'deleted') bookingsCache = bookingsCache.filter(b => b.id !== event.bookingId);
+  refreshBookingViews(event, { facilityId: event.previousFacilityId, date: event.previousDate });
+}
+
+// Apply everything changed since syncCursor; falls back to a full load when too much changed
+async function syncBookings() {
+  if (syncCursor == null) return loadBookings();
+  try {
+    const changes = await fetchChanges(syncCursor);
+    if (changes.resync) return loadBookings();
+    const deleted = new Set(changes.deletedBookingIds);
+    changes.bookings.forEach(upsertBooking);
+    if (deleted.size) bookingsCache = bookingsCache.filter(b => !deleted.has(b.id));
+    if (changes.facilities.length || changes.deletedFacilityIds.length) {
+      const gone = new Set(changes.deletedFacilityIds);
+      changes.facilities.forEach(f => {
+        const i = facilitiesCache.findIndex(x => x.id === f.id);
+        if (i >= 0) facilitiesCache[i] = f; else facilitiesCache.push(f);
+      });
+      facilitiesCache = facilitiesCache.filter(f => !gone.has(f.id));
+    }
+    syncCursor = changes.cursor;
+    if (changes.bookings.length || deleted.size || changes.facilities.length || changes.deletedFacilityIds.length) {
+      refreshBookingViews();
+      loadAvailability();
+    }
+  } catch (_) { /* keep the cursor and try again next time */ }
+}
+
+function subscribeToBookingChanges() {
+  if (!window.EventSource) {
+    setInterval(syncBookings, 30000);
+    return;
+  }
+  const source = new EventSource(`${API}/bookings/stream`);
+  ['created', 'updated', 'cancelled', 'deleted'].forEach(type =>
+    source.addEventListener(type, e => applyBookingEvent(type, JSON.parse(e.data))));
+  // Catch up on every open: the first covers changes made between the initial
+  // load and the subscription, later ones what was missed while reconnecting
+  source.onopen = () => syncBookings();
+}
+
 // =========================================================
 // CREATE BOOKING
 // =========================================================
@@ -678,9 +764,11 @@ async function createBooking() {
   try {
     el('btnCreateBooking').disabled = true;
     el('btnCreateBooking').textContent = 'Booking…';
-    await postBooking(payload);
+    const created = await postBooking(payload);
     resetForm();
-    await loadBookings();
+    // A queued (202) request has no booking yet; the stream delivers it once committed
+    if (created && created.id) upsertBooking(created);
+    refreshBookingViews();
     await loadAvailability();
     if (window.showSuccessOverlay)
       showSuccessOverlay(`${facilityName} reserved on ${payload.date} from ${payload.startTime} to ${payload.endTime}.`);
@@ -702,13 +790,14 @@ window.cancelBooking = async function (bookingId) {
   const ok = await showConfirm('Are you sure you want to cancel this booking?');
   if (!ok) return;
   try {
-    const res = await fetch(`${API}/bookings/${bookingId}/cancel`, { method: 'PUT' });
+    const res = await fetch(`${API}/bookings/${bookingId}/cancel`, { method: 'PUT', headers: USER_HEADERS });
     if (!res.ok) {
       const msg = await friendlyError(res, 'cancel');
       throw Object.assign(new Error(msg), { _friendly: true });
     }
     toast('Booking cancelled successfully.', 'success');
-    await loadBookings();
+    setBookingStatus(bookingId, 'CANCELLED');
+    refreshBookingViews();
     await loadAvailability();
   } catch (e) {
     const msg = e._friendly ? e.message : await friendlyError(e, 'cancel');
@@ -723,7 +812,7 @@ window.deleteBooking = async (bookingId) => {
   const ok = await showConfirm('Permanently delete this cancelled booking?');
   if (!ok) return;
   try {
-    const res = await fetch(`${API}/bookings/${bookingId}`, { method: 'DELETE' });
+    const res = await fetch(`${API}/bookings/${bookingId}`, { method: 'DELETE', headers: USER_HEADERS });
     if (!res.ok) {
       const msg = await friendlyError(res, 'delete');
       throw Object.assign(new Error(msg), { _friendly: true });
@@ -782,7 +871,7 @@ window.updateBooking = async () => {
   try {
     const res = await fetch(`${API}/bookings/${editingBookingId}`, {
       method: 'PUT',
-      headers: { 'Content-Type': 'application/json' },
+      headers: { 'Content-Type': 'application/json', ...USER_HEADERS },
       body: JSON.stringify(payload)
     });
     if (!res.ok) {
@@ -792,7 +881,8 @@ window.updateBooking = async () => {
     toast('Booking updated successfully.', 'success');
     if (updateModal) updateModal.hide();
     editingBookingId = null;
-    await loadBookings();
+    upsertBooking(await res.json());
+    refreshBookingViews();
     await loadAvailability();
   } catch (e) {
     const msg = e._friendly ? e.message : await friendlyError(e, 'update');
@@ -869,5 +959,6 @@ el('availDate')?.addEventListener('change', loadAvailability);
   await loadFacilities();
   await loadBookings();
   await loadAvailability();
+  subscribeToBookingChanges();
   try { showTab('facilities'); } catch (_) { }
 })();
\ No newline at end of file
@@ -1,11 +1,25 @@
+-- Resets a database to the current schema plus sample data.
+-- The application creates and upgrades the schema itself through the Flyway
+-- migrations in src/main/resources/db/migration; keep this file in step with them.
+-- Drop flyway_schema_history too, so the next start re-baselines this schema.
+DROP TABLE IF EXISTS flyway_schema_history;
+
 -- Drop tables in correct order
+DROP TABLE IF EXISTS tombstones CASCADE;
+DROP TABLE IF EXISTS bookings_archive CASCADE;
 DROP TABLE IF EXISTS bookings CASCADE;
+DROP TABLE IF EXISTS booking_series_exceptions CASCADE;
+DROP TABLE IF EXISTS booking_series CASCADE;
 DROP TABLE IF EXISTS users CASCADE;
 DROP TABLE IF EXISTS facilities CASCADE;
+DROP SEQUENCE IF EXISTS change_seq;
 
 -- Enable extension
 CREATE EXTENSION IF NOT EXISTS btree_gist;
 
+-- Change numbers for delta sync (GET /api/sync); one per write transaction
+CREATE SEQUENCE change_seq;
+
 -- =========================================================
 -- FACILITIES TABLE (matches Facility.java exactly)
 -- =========================================================
@@ -15,6 +29,8 @@ CREATE TABLE facilities (
   location     VARCHAR(120) NOT NULL,
   capacity     INTEGER NOT NULL CHECK (capacity > 0),
   is_available BOOLEAN DEFAULT TRUE,
+  version      BIGINT NOT NULL DEFAULT 0,  -- @Version (optimistic locking)
+  change_seq   BIGINT,                     -- last change number (delta sync)
   created_at   TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
   updated_at   TIMESTAMP DEFAULT CURRENT_TIMESTAMP
   -- NO description column (removed from entity)
@@ -33,6 +49,29 @@ CREATE TABLE users (
   -- NO updated_at in entity, so we omit it
 );
 
+-- =========================================================
+-- BOOKING SERIES TABLES (matches BookingSeries.java)
+-- =========================================================
+CREATE TABLE booking_series (
+  id               BIGSERIAL PRIMARY KEY,
+  facility_id      BIGINT NOT NULL REFERENCES facilities(id) ON DELETE CASCADE,
+  user_id          BIGINT NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+  start_time       TIME NOT NULL,
+  end_time         TIME NOT NULL,
+  purpose          VARCHAR(500),
+  frequency        VARCHAR(30) NOT NULL CHECK (frequency IN ('DAILY', 'WEEKLY')),
+  repeat_interval  INTEGER NOT NULL DEFAULT 1 CHECK (repeat_interval > 0),
+  start_date       DATE NOT NULL,
+  until_date       DATE,
+  occurrence_count INTEGER,
+  created_at       TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE booking_series_exceptions (
+  series_id      BIGINT NOT NULL REFERENCES booking_series(id) ON DELETE CASCADE,
+  exception_date DATE NOT NULL
+);
+
 -- =========================================================
 -- BOOKINGS TABLE (matches Booking.java exactly)
 -- =========================================================
@@ -45,9 +84,46 @@ CREATE TABLE bookings (
   end_time    TIME NOT NULL,
   status      VARCHAR(30) NOT NULL CHECK (status IN ('CONFIRMED', 'CANCELLED', 'COMPLETED', 'PENDING')),
   purpose     VARCHAR(500),
+  series_id   BIGINT REFERENCES booking_series(id) ON DELETE SET NULL,
+  version     BIGINT NOT NULL DEFAULT 0,  -- @Version (optimistic locking)
+  change_seq  BIGINT,                     -- last change number (delta sync)
   created_at  TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+  updated_at  TIMESTAMP,
+  -- half-open [) range queried with && (read-only TimeRange in Booking.java)
+  slot        TSRANGE GENERATED ALWAYS AS (tsrange(date + start_time, date + end_time, '[)')) STORED,
   CHECK (start_time < end_time)
-  -- NO updated_at, NO slot in entity
+);
+
+-- =========================================================
+-- BOOKINGS ARCHIVE (matches ArchivedBooking.java) - finished bookings moved
+-- out of bookings by BookingArchiveJob
+-- =========================================================
+CREATE TABLE bookings_archive (
+  id          BIGINT PRIMARY KEY,
+  facility_id BIGINT NOT NULL REFERENCES facilities(id) ON DELETE CASCADE,
+  user_id     BIGINT NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+  date        DATE NOT NULL,
+  start_time  TIME NOT NULL,
+  end_time    TIME NOT NULL,
+  status      VARCHAR(30) NOT NULL,
+  purpose     VARCHAR(500),
+  series_id   BIGINT REFERENCES booking_series(id) ON DELETE SET NULL,
+  version     BIGINT NOT NULL DEFAULT 0,
+  change_seq  BIGINT,
+  created_at  TIMESTAMP,
+  updated_at  TIMESTAMP,
+  archived_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- =========================================================
+-- TOMBSTONES TABLE (matches Tombstone.java) - deleted rows for delta sync
+-- =========================================================
+CREATE TABLE tombstones (
+  id         BIGINT PRIMARY KEY,  -- drawn from change_seq
+  kind       VARCHAR(20) NOT NULL CHECK (kind IN ('BOOKING', 'FACILITY')),
+  entity_id  BIGINT NOT NULL,
+  change_seq BIGINT NOT NULL,
+  deleted_at TIMESTAMP NOT NULL
 );
 
 -- =========================================================
@@ -60,17 +136,31 @@ ALTER TABLE bookings
 ADD CONSTRAINT no_overlapping_bookings
 EXCLUDE USING gist (
   facility_id WITH =,
-  tsrange(date + start_time, date + end_time, '[)') WITH &&
+  slot WITH &&
 )
 WHERE (status != 'CANCELLED');
 
+-- Booking ids are allocated in blocks of 50 (pooled sequence in Booking.java)
+ALTER SEQUENCE bookings_id_seq INCREMENT BY 50;
+
 -- =========================================================
 -- INDEXES
 -- =========================================================
-CREATE INDEX idx_bookings_facility_id ON bookings(facility_id);
-CREATE INDEX idx_bookings_user_id ON bookings(user_id);
-CREATE INDEX idx_bookings_date ON bookings(date);
+-- Shaped after the hot booking queries (see V3__booking_query_indexes.sql)
+CREATE INDEX idx_bookings_active_facility_date ON bookings(facility_id, date, start_time, end_time)
+  WHERE status != 'CANCELLED';
+CREATE INDEX idx_bookings_user_date ON bookings(user_id, date, start_time);
+CREATE INDEX idx_bookings_facility_date ON bookings(facility_id, date, start_time);
+CREATE INDEX idx_bookings_date_id ON bookings(date, id);
+CREATE INDEX idx_bookings_series_date ON bookings(series_id, date);
+CREATE INDEX idx_bookings_confirmed_date ON bookings(date, end_time) WHERE status = 'CONFIRMED';
+CREATE INDEX idx_bookings_archive_user_date ON bookings_archive(user_id, date, start_time);
+CREATE INDEX idx_bookings_archive_facility_date ON bookings_archive(facility_id, date, start_time);
+CREATE INDEX idx_bookings_archive_date_id ON bookings_archive(date, id);
 CREATE INDEX idx_users_email ON users(email);
+CREATE INDEX idx_bookings_change_seq ON bookings(change_seq);
+CREATE INDEX idx_facilities_change_seq ON facilities(change_seq);
+CREATE INDEX idx_tombstones_change_seq ON tombstones(change_seq);
 
 -- =========================================================
 -- SAMPLE DATA (with passwords)
@@ -0,0 +1,14 @@
+package com.example.booking.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * Turns on @Async. Tasks run on Spring Boot's applicationTaskExecutor, which
+ * uses virtual threads when spring.threads.virtual.enabled is set (Java 21+)
+ * and a bounded platform thread pool otherwise.
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+}
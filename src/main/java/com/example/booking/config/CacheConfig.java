@@ -0,0 +1,37 @@
+package com.example.booking.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Turns on Spring's cache abstraction over Caffeine, sized by the
+ * spring.cache.* properties in application.properties (size and TTL
+ * eviction, with statistics recorded for Actuator).
+ *
+ * The manager is transaction-aware: puts and evictions made inside a
+ * transaction are applied only after it commits. Otherwise a read between
+ * the eviction and the commit would cache the old row again until it
+ * expires, e.g. keep a just-closed facility bookable.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    @Value("${spring.cache.cache-names:facilities,facilityLists,users}")
+    private String[] cacheNames;
+
+    @Value("${spring.cache.caffeine.spec:maximumSize=1000,expireAfterWrite=10m,recordStats}")
+    private String cacheSpecification;
+
+    @Bean
+    public CacheManager cacheManager() {
+        CaffeineCacheManager caffeine = new CaffeineCacheManager(cacheNames);
+        caffeine.setCacheSpecification(cacheSpecification);
+        return new TransactionAwareCacheManagerProxy(caffeine);
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.booking.config;
+
+import com.example.booking.dto.BookingResponse;
+import com.example.booking.model.Facility;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Wire formats of the REST API. JSON stays the default; a client sending
+ * Accept: application/x-jackson-smile or application/cbor gets the same
+ * document in that binary format. All mappers come from Spring Boot's
+ * Jackson builder, so they share its settings (ISO dates and times) and
+ * the Blackbird module, which replaces reflective getter calls with
+ * generated lambdas.
+ */
+@Configuration(proxyBeanMethods = false)
+public class JacksonConfig {
+
+    @Bean
+    public BlackbirdModule blackbirdModule() {
+        return new BlackbirdModule();
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        // Short string values repeated on every row (user e-mail and name,
+        // facility name) are written once and back-referenced after that
+        SmileFactory factory = SmileFactory.builder()
+                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                .build();
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(factory).build());
+    }
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    /**
+     * Builds the serializers of the list endpoints' row types at startup,
+     * so the first large response does not pay for the introspection.
+     */
+    @Bean
+    public ApplicationRunner jacksonSerializerWarmup(ObjectMapper objectMapper,
+            MappingJackson2SmileHttpMessageConverter smileConverter,
+            MappingJackson2CborHttpMessageConverter cborConverter) {
+        return args -> {
+            for (ObjectMapper mapper : new ObjectMapper[] {
+                    objectMapper, smileConverter.getObjectMapper(), cborConverter.getObjectMapper() }) {
+                mapper.writerFor(BookingResponse.class);
+                mapper.writerFor(Facility.class);
+            }
+        };
+    }
+}
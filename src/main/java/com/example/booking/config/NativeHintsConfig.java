@@ -0,0 +1,61 @@
+package com.example.booking.config;
+
+import com.example.booking.dto.BookingEvent;
+import com.example.booking.dto.BookingFilter;
+import com.example.booking.dto.BookingResponse;
+import com.example.booking.exception.ApiError;
+import com.example.booking.model.TimeRangeType;
+import com.example.booking.repository.BookingSlot;
+import com.example.booking.service.ChangeStampListener;
+import net.ttddyy.dsproxy.proxy.ProxyJdbcObject;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.data.projection.TargetAware;
+
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+
+/**
+ * Reflection and proxy hints for the native image (mvn -Pnative). Spring's
+ * AOT processing already covers beans, controller signatures and the JPA
+ * entities; listed here are the types only reached reflectively at
+ * runtime: Hibernate's JPQL constructor results, user type and entity
+ * listener, Spring Data's interface projection, datasource-proxy's JDBC
+ * proxies, and JSON written outside a controller signature (SSE events, the
+ * ndjson export, error bodies).
+ * On the JVM these hints are unused.
+ */
+@Configuration(proxyBeanMethods = false)
+@ImportRuntimeHints(NativeHintsConfig.Hints.class)
+@RegisterReflectionForBinding({BookingResponse.class, BookingEvent.class, BookingFilter.class, ApiError.class})
+public class NativeHintsConfig {
+
+    static class Hints implements RuntimeHintsRegistrar {
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            // SELECT new BookingResponse(...)
+            hints.reflection().registerType(BookingResponse.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+            // Created by Hibernate, and by Spring for Hibernate, from the entity annotations
+            hints.reflection().registerType(TimeRangeType.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+            hints.reflection().registerType(ChangeStampListener.class,
+                    MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+            // Listed in META-INF/services/org.hibernate.boot.model.FunctionContributor
+            hints.reflection().registerType(RangeFunctionContributor.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+            hints.resources().registerPattern("META-INF/services/org.hibernate.boot.model.FunctionContributor");
+            hints.proxies().registerJdkProxy(AopProxyUtils.completeJdkProxyInterfaces(BookingSlot.class, TargetAware.class));
+            // Connections and statements of the SqlMonitor-wrapped pools
+            for (Class<?> jdbcType : new Class<?>[] {Connection.class, Statement.class,
+                    PreparedStatement.class, CallableStatement.class}) {
+                hints.proxies().registerJdkProxy(ProxyJdbcObject.class, jdbcType);
+            }
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.booking.config;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.query.sqm.produce.function.StandardFunctionArgumentTypeResolvers;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Registers {@code ranges_overlap(a, b)} for JPQL, rendered as the PostgreSQL
+ * range operator {@code a && b}. The operator form (rather than the
+ * range_overlaps() function) is what lets the planner use the GiST index on
+ * bookings.slot. A parameter passed as either argument takes the type of the
+ * other, so {@code ranges_overlap(b.slot, :range)} binds a TimeRange.
+ *
+ * Loaded by Hibernate through META-INF/services.
+ */
+public class RangeFunctionContributor implements FunctionContributor {
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        functionContributions.getFunctionRegistry()
+                .patternDescriptorBuilder("ranges_overlap", "(?1 && ?2)")
+                .setExactArgumentCount(2)
+                .setInvariantType(functionContributions.getTypeConfiguration()
+                        .getBasicTypeRegistry().resolve(StandardBasicTypes.BOOLEAN))
+                .setArgumentTypeResolver(StandardFunctionArgumentTypeResolvers.ARGUMENT_OR_IMPLIED_RESULT_TYPE)
+                .setArgumentListSignature("(RANGE a, RANGE b)")
+                .register();
+    }
+}
@@ -0,0 +1,185 @@
+package com.example.booking.config;
+
+import com.example.booking.exception.RateLimitExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Token-bucket rate limits for /api requests. Reads (GET, HEAD) and writes
+ * have separate buckets, kept per X-User-Id and per client IP; a request
+ * must get a token from both. The header is only a client's claim, so the
+ * IP bucket is what actually stops a script; it is ip-factor times larger
+ * because one address may be shared by many users. Rejections become a
+ * RateLimitExceededException, rendered by GlobalExceptionHandler. Only
+ * registered in a servlet application: contexts without Spring MVC, such
+ * as the benchmarks' embedded app, have no handlerExceptionResolver.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    // Full buckets carry no state worth keeping; past this size they are swept
+    private static final int SWEEP_THRESHOLD = 10_000;
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final boolean enabled;
+    private final Limit userReads;
+    private final Limit userWrites;
+    private final Limit ipReads;
+    private final Limit ipWrites;
+    private final HandlerExceptionResolver exceptionResolver;
+    private final Counter rejectedReads;
+    private final Counter rejectedWrites;
+    private final LongSupplier nanoClock;
+
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+
+    @Autowired
+    public RateLimitFilter(
+            @Value("${booking.rate-limit.enabled:true}") boolean enabled,
+            @Value("${booking.rate-limit.read.per-second:20}") double readsPerSecond,
+            @Value("${booking.rate-limit.read.burst:100}") int readBurst,
+            @Value("${booking.rate-limit.write.per-second:5}") double writesPerSecond,
+            @Value("${booking.rate-limit.write.burst:20}") int writeBurst,
+            @Value("${booking.rate-limit.ip-factor:10}") int ipFactor,
+            @Qualifier("handlerExceptionResolver") HandlerExceptionResolver exceptionResolver,
+            MeterRegistry meterRegistry) {
+        this(enabled, readsPerSecond, readBurst, writesPerSecond, writeBurst, ipFactor, exceptionResolver,
+                meterRegistry, System::nanoTime);
+    }
+
+    // Takes the clock as a parameter so tests can move time by hand
+    RateLimitFilter(boolean enabled, double readsPerSecond, int readBurst, double writesPerSecond,
+            int writeBurst, int ipFactor, HandlerExceptionResolver exceptionResolver,
+            MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        this.enabled = enabled;
+        this.userReads = Limit.of(readsPerSecond, readBurst);
+        this.userWrites = Limit.of(writesPerSecond, writeBurst);
+        this.ipReads = Limit.of(readsPerSecond * ipFactor, readBurst * ipFactor);
+        this.ipWrites = Limit.of(writesPerSecond * ipFactor, writeBurst * ipFactor);
+        this.exceptionResolver = exceptionResolver;
+        this.rejectedReads = rejected(meterRegistry, "read");
+        this.rejectedWrites = rejected(meterRegistry, "write");
+        this.nanoClock = nanoClock;
+    }
+
+    private static Counter rejected(MeterRegistry meterRegistry, String kind) {
+        return Counter.builder("booking.rate-limit.rejected")
+                .description("Requests answered with 429 because a rate limit was exceeded")
+                .tag("kind", kind)
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+            FilterChain chain) throws ServletException, IOException {
+        boolean read = "GET".equals(request.getMethod()) || "HEAD".equals(request.getMethod());
+        long now = nanoClock.getAsLong();
+
+        // IP first, so made-up user ids cannot create buckets faster than the IP limit
+        long wait = take((read ? "read:ip:" : "write:ip:") + request.getRemoteAddr(),
+                read ? ipReads : ipWrites, now);
+        String userId = request.getHeader(ReadYourWritesFilter.USER_HEADER);
+        if (wait == 0 && userId != null) {
+            wait = take((read ? "read:user:" : "write:user:") + userId.trim(),
+                    read ? userReads : userWrites, now);
+        }
+        if (wait == 0) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        (read ? rejectedReads : rejectedWrites).increment();
+        long retryAfter = Math.max(1, (wait + NANOS_PER_SECOND - 1) / NANOS_PER_SECOND);
+        if (exceptionResolver.resolveException(request, response, null,
+                new RateLimitExceededException(retryAfter)) == null) {
+            response.setHeader("Retry-After", String.valueOf(retryAfter));
+            response.sendError(429);
+        }
+    }
+
+    // Number of buckets currently held, for tests of the sweep
+    int bucketCount() {
+        return buckets.size();
+    }
+
+    private long take(String key, Limit limit, long now) {
+        Bucket bucket = buckets.get(key);
+        if (bucket == null) {
+            if (buckets.size() > SWEEP_THRESHOLD) {
+                buckets.values().removeIf(b -> b.isFull(now));
+            }
+            bucket = buckets.computeIfAbsent(key, k -> new Bucket(now));
+        }
+        return bucket.tryTake(now, limit);
+    }
+
+    // One token every intervalNanos, at most burst tokens saved up
+    private record Limit(long intervalNanos, long burstNanos) {
+        static Limit of(double perSecond, int burst) {
+            long interval = (long) (NANOS_PER_SECOND / perSecond);
+            return new Limit(interval, interval * burst);
+        }
+    }
+
+    /**
+     * A token bucket held as one timestamp: the instant at which it will be
+     * full again. Taking a token moves that instant one refill interval
+     * later, and the bucket is empty once it lies a whole burst ahead of
+     * now. Updated by compare-and-set, so concurrent requests never block.
+     */
+    private static final class Bucket {
+
+        private final AtomicLong fullAt;
+
+        Bucket(long now) {
+            this.fullAt = new AtomicLong(now);
+        }
+
+        // 0 if a token was taken, otherwise nanoseconds until one is available
+        long tryTake(long now, Limit limit) {
+            while (true) {
+                long current = fullAt.get();
+                long next = (current - now > 0 ? current : now) + limit.intervalNanos();
+                long wait = next - now - limit.burstNanos();
+                if (wait > 0) {
+                    return wait;
+                }
+                if (fullAt.compareAndSet(current, next)) {
+                    return 0;
+                }
+            }
+        }
+
+        boolean isFull(long now) {
+            return fullAt.get() - now <= 0;
+        }
+    }
+}
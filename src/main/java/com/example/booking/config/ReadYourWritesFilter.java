@@ -0,0 +1,96 @@
+package com.example.booking.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Read-your-writes for replica reads. A user who has just written (any
+ * successful non-GET request carrying X-User-Id) reads from the primary for
+ * the next booking.datasource.replica.read-your-writes-ms, long enough for
+ * the replica to catch up. The window is tracked per instance.
+ */
+@Component
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    public static final String USER_HEADER = "X-User-Id";
+    public static final String PINNED_ATTRIBUTE = ReadYourWritesFilter.class.getName() + ".PINNED";
+
+    // Expired entries are dropped on lookup; past this size they are swept
+    private static final int SWEEP_THRESHOLD = 10_000;
+
+    private final boolean replicaConfigured;
+    private final long windowNanos;
+    private final Counter pinnedReads;
+
+    // User id -> System.nanoTime() at which the user may read from the replica again
+    private final Map<Long, Long> recentWriters = new ConcurrentHashMap<>();
+
+    public ReadYourWritesFilter(DataSource dataSource,
+            @Value("${booking.datasource.replica.read-your-writes-ms:5000}") long windowMillis,
+            MeterRegistry meterRegistry) {
+        this.replicaConfigured = dataSource instanceof ReplicaRoutingDataSource;
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMillis);
+        this.pinnedReads = Counter.builder("booking.replica.pinned")
+                .description("Requests pinned to the primary because the user wrote recently")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !replicaConfigured || request.getHeader(USER_HEADER) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+            FilterChain chain) throws ServletException, IOException {
+        Long userId = parseUserId(request.getHeader(USER_HEADER));
+        if (userId == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        if (!"GET".equals(request.getMethod()) && !"HEAD".equals(request.getMethod())) {
+            chain.doFilter(request, response);
+            if (response.getStatus() < 400) {
+                if (recentWriters.size() > SWEEP_THRESHOLD) {
+                    long now = System.nanoTime();
+                    recentWriters.values().removeIf(until -> until - now <= 0);
+                }
+                recentWriters.put(userId, System.nanoTime() + windowNanos);
+            }
+            return;
+        }
+
+        Long until = recentWriters.get(userId);
+        if (until != null) {
+            if (until - System.nanoTime() > 0) {
+                request.setAttribute(PINNED_ATTRIBUTE, Boolean.TRUE);
+                pinnedReads.increment();
+            } else {
+                recentWriters.remove(userId, until);
+            }
+        }
+        chain.doFilter(request, response);
+    }
+
+    private static Long parseUserId(String header) {
+        try {
+            return Long.valueOf(header.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.booking.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Sends connections to the replica pool only while the current thread is
+ * inside {@link #onReplica}; everything else, including Flyway, Hibernate
+ * startup and every write, uses the primary. The choice is made when the
+ * transaction takes its connection, so it holds for the whole transaction.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements Closeable {
+
+    private static final String PRIMARY = "primary";
+    private static final String REPLICA = "replica";
+
+    private static final ThreadLocal<Boolean> USE_REPLICA = new ThreadLocal<>();
+
+    private final DataSource primary;
+    private final DataSource replica;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica) {
+        this.primary = primary;
+        this.replica = replica;
+        setTargetDataSources(Map.of(PRIMARY, primary, REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    /**
+     * Runs {@code work} with new connections taken from the replica. Has no
+     * effect on a connection the thread already holds.
+     */
+    public static <T> T onReplica(Work<T> work) throws Throwable {
+        if (USE_REPLICA.get() != null) {
+            return work.run();
+        }
+        USE_REPLICA.set(Boolean.TRUE);
+        try {
+            return work.run();
+        } finally {
+            USE_REPLICA.remove();
+        }
+    }
+
+    @FunctionalInterface
+    public interface Work<T> {
+        T run() throws Throwable;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return USE_REPLICA.get() != null ? REPLICA : PRIMARY;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            close(replica);
+        } finally {
+            close(primary);
+        }
+    }
+
+    private static void close(DataSource dataSource) throws IOException {
+        if (dataSource instanceof Closeable closeable) {
+            closeable.close();
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.booking.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Turns on @Scheduled for periodic housekeeping tasks.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,78 @@
+package com.example.booking.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.QueryStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * /actuator/slowqueries: the slowest JDBC statements with their bind
+ * parameters (from SqlMonitor), and Hibernate's statistics with the queries
+ * that took the most time in total, including the rows they returned.
+ * Bind parameters are user data, so the endpoint is not exposed unless
+ * listed in ACTUATOR_ENDPOINTS, and must not be reachable from outside.
+ * The DELETE that starts both over is {@link SlowQueriesResetExtension}.
+ */
+@Component
+@Endpoint(id = "slowqueries")
+public class SlowQueriesEndpoint {
+
+    private static final int TOP_QUERIES = 20;
+
+    private final SqlMonitor sqlMonitor;
+    private final Statistics statistics;
+
+    public SlowQueriesEndpoint(SqlMonitor sqlMonitor, EntityManagerFactory entityManagerFactory) {
+        this.sqlMonitor = sqlMonitor;
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @ReadOperation
+    public Report report() {
+        List<QueryStats> queries = Arrays.stream(statistics.getQueries())
+                .map(query -> QueryStats.of(query, statistics.getQueryStatistics(query)))
+                .sorted(Comparator.comparingLong(QueryStats::totalMs).reversed())
+                .limit(TOP_QUERIES)
+                .toList();
+        Totals totals = new Totals(statistics.isStatisticsEnabled(), statistics.getPrepareStatementCount(),
+                statistics.getQueryExecutionCount(), statistics.getEntityLoadCount(),
+                statistics.getEntityFetchCount(), statistics.getCollectionFetchCount(),
+                statistics.getTransactionCount());
+        return new Report(sqlMonitor.slowestStatements(), totals, queries);
+    }
+
+    void reset() {
+        sqlMonitor.clearSlowestStatements();
+        statistics.clear();
+    }
+
+    public record Report(List<SqlMonitor.SlowStatement> statements, Totals hibernate,
+            List<QueryStats> queries) {
+    }
+
+    /**
+     * Session factory counters since start or the last reset. Entity and
+     * collection fetches are lazy loads, the usual sign of an N+1 pattern.
+     */
+    public record Totals(boolean enabled, long statementsPrepared, long queriesExecuted,
+            long entitiesLoaded, long entitiesFetched, long collectionsFetched, long transactions) {
+    }
+
+    /** One HQL or native query; times in milliseconds. */
+    public record QueryStats(String query, long executions, long rows, long totalMs,
+            double averageMs, long maxMs) {
+
+        static QueryStats of(String query, QueryStatistics stats) {
+            return new QueryStats(query, stats.getExecutionCount(), stats.getExecutionRowCount(),
+                    stats.getExecutionTotalTime(), stats.getExecutionAvgTimeAsDouble(),
+                    stats.getExecutionMaxTime());
+        }
+    }
+}
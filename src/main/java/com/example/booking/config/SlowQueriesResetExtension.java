@@ -0,0 +1,29 @@
+package com.example.booking.config;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.web.annotation.EndpointWebExtension;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * DELETE /actuator/slowqueries, which clears the statement journal and
+ * Hibernate's statistics. Registered only with
+ * booking.sql.slow-queries.reset-enabled=true, so a reachable endpoint
+ * cannot be used to wipe the evidence of a slow query.
+ */
+@Component
+@EndpointWebExtension(endpoint = SlowQueriesEndpoint.class)
+@ConditionalOnProperty(name = "booking.sql.slow-queries.reset-enabled", havingValue = "true")
+public class SlowQueriesResetExtension {
+
+    private final SlowQueriesEndpoint endpoint;
+
+    public SlowQueriesResetExtension(SlowQueriesEndpoint endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    @DeleteOperation
+    public void reset() {
+        endpoint.reset();
+    }
+}
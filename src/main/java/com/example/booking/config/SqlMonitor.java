@@ -0,0 +1,265 @@
+package com.example.booking.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryUtils;
+import net.ttddyy.dsproxy.listener.logging.SLF4JLogLevel;
+import net.ttddyy.dsproxy.listener.logging.SLF4JQueryLoggingListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Sees every JDBC statement on the pools, which DataSourceConfig wraps with
+ * datasource-proxy. Each statement is timed (booking.sql.statements), counted
+ * against the current request (see SqlRequestMetricsFilter) and offered to a
+ * journal of the slowest statements, kept with their bind parameters for the
+ * slowqueries actuator endpoint. A sample of statements, and every statement
+ * over the slow threshold, is logged to the booking.sql logger.
+ */
+@Component
+public class SqlMonitor implements QueryExecutionListener {
+
+    private static final String START_NANOS = SqlMonitor.class.getName() + ".START";
+
+    // What one journal entry keeps of a batch and of a long parameter value
+    private static final int MAX_PARAMETER_SETS = 10;
+    private static final int MAX_VALUE_LENGTH = 200;
+
+    private static final ThreadLocal<RequestStats> CURRENT_REQUEST = new ThreadLocal<>();
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    private final int journalCapacity;
+    // Fastest entry first, so it is the one a slower statement replaces
+    private final PriorityQueue<SlowStatement> journal =
+            new PriorityQueue<>(Comparator.comparingLong(SlowStatement::elapsedNanos));
+    // Elapsed time a statement has to beat to get into the full journal; -1 until it is full
+    private volatile long journalFloorNanos = -1;
+
+    private final double logSampleRate;
+    private final long slowThresholdNanos;
+    private final SLF4JQueryLoggingListener sampledLog;
+    private final SLF4JQueryLoggingListener slowLog;
+
+    public SqlMonitor(MeterRegistry meterRegistry,
+            @Value("${booking.sql.slow-queries.capacity:50}") int journalCapacity,
+            @Value("${booking.sql.log.sample-rate:0.01}") double logSampleRate,
+            @Value("${booking.sql.log.slow-threshold-ms:500}") long slowThresholdMillis) {
+        this.meterRegistry = meterRegistry;
+        this.journalCapacity = journalCapacity;
+        this.logSampleRate = logSampleRate;
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowThresholdMillis);
+        this.sampledLog = logger(SLF4JLogLevel.INFO);
+        this.slowLog = logger(SLF4JLogLevel.WARN);
+    }
+
+    private static SLF4JQueryLoggingListener logger(SLF4JLogLevel level) {
+        SLF4JQueryLoggingListener listener = new SLF4JQueryLoggingListener();
+        listener.setLogger("booking.sql");
+        listener.setLogLevel(level);
+        return listener;
+    }
+
+    /**
+     * Starts counting the statements the current thread runs for
+     * {@code request}; {@link #endRequest} must follow.
+     */
+    public RequestStats beginRequest(HttpServletRequest request) {
+        RequestStats stats = new RequestStats(request);
+        CURRENT_REQUEST.set(stats);
+        return stats;
+    }
+
+    public void endRequest() {
+        CURRENT_REQUEST.remove();
+    }
+
+    /**
+     * Method and URI pattern of a request, e.g. "GET /api/bookings/{id}";
+     * the raw URI before (or without) a handler match.
+     */
+    public static String route(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern != null ? pattern : request.getRequestURI());
+    }
+
+    /** Journal entries, slowest first. */
+    public List<SlowStatement> slowestStatements() {
+        List<SlowStatement> statements;
+        synchronized (journal) {
+            statements = new ArrayList<>(journal);
+        }
+        statements.sort(Comparator.comparingLong(SlowStatement::elapsedNanos).reversed());
+        return statements;
+    }
+
+    public void clearSlowestStatements() {
+        synchronized (journal) {
+            journal.clear();
+            journalFloorNanos = -1;
+        }
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        // datasource-proxy's own elapsed time is in whole milliseconds
+        execInfo.addCustomValue(START_NANOS, System.nanoTime());
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Long start = execInfo.getCustomValue(START_NANOS, Long.class);
+        long elapsedNanos = start != null ? System.nanoTime() - start : 0;
+        String sql = queryInfoList.size() == 1
+                ? queryInfoList.get(0).getQuery()
+                : queryInfoList.stream().map(QueryInfo::getQuery).collect(Collectors.joining(";\n"));
+
+        timer(execInfo.getDataSourceName(), QueryUtils.getQueryType(sql).name(), execInfo.isSuccess())
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        RequestStats request = CURRENT_REQUEST.get();
+        if (request != null) {
+            request.statements++;
+            request.nanos += elapsedNanos;
+        }
+
+        if (elapsedNanos > journalFloorNanos) {
+            record(new SlowStatement(Instant.now().toString(), execInfo.getDataSourceName(),
+                    request != null ? route(request.request) : null,
+                    elapsedNanos, elapsedNanos / 1_000_000.0, execInfo.isSuccess(),
+                    rows(execInfo.getResult()), sql, parameters(queryInfoList)));
+        }
+
+        if (elapsedNanos >= slowThresholdNanos) {
+            slowLog.afterQuery(execInfo, queryInfoList);
+        } else if (logSampleRate > 0 && ThreadLocalRandom.current().nextDouble() < logSampleRate) {
+            sampledLog.afterQuery(execInfo, queryInfoList);
+        }
+    }
+
+    private Timer timer(String dataSource, String type, boolean success) {
+        String key = dataSource + ':' + type + ':' + success;
+        Timer timer = timers.get(key);
+        if (timer == null) {
+            timer = timers.computeIfAbsent(key, k -> Timer.builder("booking.sql.statements")
+                    .description("JDBC statement execution time")
+                    .tag("datasource", String.valueOf(dataSource))
+                    .tag("type", type.toLowerCase(Locale.ROOT))
+                    .tag("outcome", success ? "success" : "error")
+                    .register(meterRegistry));
+        }
+        return timer;
+    }
+
+    private void record(SlowStatement statement) {
+        if (journalCapacity <= 0) {
+            return;
+        }
+        synchronized (journal) {
+            if (statement.elapsedNanos() <= journalFloorNanos) {
+                return;
+            }
+            journal.add(statement);
+            if (journal.size() > journalCapacity) {
+                journal.poll();
+            }
+            if (journal.size() == journalCapacity) {
+                journalFloorNanos = journal.peek().elapsedNanos();
+            }
+        }
+    }
+
+    /** Update count of an executeUpdate or executeBatch; null for queries. */
+    private static Long rows(Object result) {
+        if (result instanceof Integer count) {
+            return count.longValue();
+        }
+        if (result instanceof Long count) {
+            return count;
+        }
+        if (result instanceof int[] counts) {
+            long total = 0;
+            for (int count : counts) {
+                if (count < 0) {
+                    return null; // SUCCESS_NO_INFO or EXECUTE_FAILED
+                }
+                total += count;
+            }
+            return total;
+        }
+        return null;
+    }
+
+    private static List<List<String>> parameters(List<QueryInfo> queryInfoList) {
+        List<List<String>> parameterSets = new ArrayList<>();
+        for (QueryInfo queryInfo : queryInfoList) {
+            for (List<ParameterSetOperation> operations : queryInfo.getParametersList()) {
+                if (parameterSets.size() == MAX_PARAMETER_SETS) {
+                    return parameterSets;
+                }
+                List<String> values = new ArrayList<>(operations.size());
+                for (ParameterSetOperation operation : operations) {
+                    Object[] args = operation.getArgs();
+                    values.add(ParameterSetOperation.isSetNullParameterOperation(operation) || args.length < 2
+                            ? null
+                            : truncate(String.valueOf(args[1])));
+                }
+                parameterSets.add(values);
+            }
+        }
+        return parameterSets;
+    }
+
+    private static String truncate(String value) {
+        return value.length() <= MAX_VALUE_LENGTH ? value : value.substring(0, MAX_VALUE_LENGTH) + "...";
+    }
+
+    /** Statements run on one request thread so far. */
+    public static final class RequestStats {
+
+        private final HttpServletRequest request;
+        private int statements;
+        private long nanos;
+
+        private RequestStats(HttpServletRequest request) {
+            this.request = request;
+        }
+
+        public int getStatements() {
+            return statements;
+        }
+
+        public long getNanos() {
+            return nanos;
+        }
+    }
+
+    /**
+     * A journal entry. {@code rows} is the update count of an insert, update
+     * or delete; row counts of queries are in Hibernate's query statistics.
+     * Parameter values are listed per bind set, in binding order.
+     */
+    public record SlowStatement(String executedAt, String dataSource, String request,
+            long elapsedNanos, double elapsedMs, boolean success, Long rows, String sql,
+            List<List<String>> parameters) {
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.booking.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-endpoint SQL load for /api requests: how many statements a request
+ * ran (booking.sql.request.statements) and how long they took together
+ * (booking.sql.request.time), tagged like http.server.requests. Only
+ * statements on the request thread count, not those handed to the
+ * admission queue or to @Async tasks.
+ */
+@Component
+public class SqlRequestMetricsFilter extends OncePerRequestFilter {
+
+    private final SqlMonitor sqlMonitor;
+    private final MeterRegistry meterRegistry;
+
+    public SqlRequestMetricsFilter(SqlMonitor sqlMonitor, MeterRegistry meterRegistry) {
+        this.sqlMonitor = sqlMonitor;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+            FilterChain chain) throws ServletException, IOException {
+        SqlMonitor.RequestStats stats = sqlMonitor.beginRequest(request);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            sqlMonitor.endRequest();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            // Unmatched URIs are not used as tags, they are unbounded
+            Tags tags = Tags.of("method", request.getMethod(),
+                    "uri", pattern != null ? pattern.toString() : "UNKNOWN");
+            DistributionSummary.builder("booking.sql.request.statements")
+                    .description("JDBC statements run per request")
+                    .tags(tags)
+                    .register(meterRegistry)
+                    .record(stats.getStatements());
+            Timer.builder("booking.sql.request.time")
+                    .description("Time per request spent executing JDBC statements")
+                    .tags(tags)
+                    .register(meterRegistry)
+                    .record(stats.getNanos(), TimeUnit.NANOSECONDS);
+        }
+    }
+}
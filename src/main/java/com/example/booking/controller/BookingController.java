@@ -1,14 +1,31 @@
 package com.example.booking.controller;
 
+import com.example.booking.dto.AvailabilityCheckResult;
+import com.example.booking.dto.BatchAvailabilityRequest;
+import com.example.booking.dto.BatchBookingRequest;
+import com.example.booking.dto.BatchBookingResponse;
+import com.example.booking.dto.BookingFilter;
+import com.example.booking.dto.BookingPage;
 import com.example.booking.dto.BookingRequest;
 import com.example.booking.dto.BookingResponse;
-import com.example.booking.model.Booking;
+import com.example.booking.dto.BookingTicket;
+import com.example.booking.service.AvailabilityService;
+import com.example.booking.service.BookingAdmissionQueue;
+import com.example.booking.service.BookingEventBroadcaster;
 import com.example.booking.service.BookingService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -17,16 +34,69 @@ import java.util.List;
 @CrossOrigin(origins = "*")
 public class BookingController {
 
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final BookingService bookingService;
+    private final BookingAdmissionQueue admissionQueue;
+    private final BookingEventBroadcaster eventBroadcaster;
+    private final AvailabilityService availabilityService;
+    private final ObjectMapper objectMapper;
 
-    public BookingController(BookingService bookingService) {
+    public BookingController(BookingService bookingService, BookingAdmissionQueue admissionQueue,
+            BookingEventBroadcaster eventBroadcaster, AvailabilityService availabilityService,
+            ObjectMapper objectMapper) {
         this.bookingService = bookingService;
+        this.admissionQueue = admissionQueue;
+        this.eventBroadcaster = eventBroadcaster;
+        this.availabilityService = availabilityService;
+        this.objectMapper = objectMapper;
     }
 
+    /**
+     * Returns one page of bookings as a plain JSON array. When more rows
+     * follow, the cursor for the next page is sent in the X-Next-Cursor header.
+     */
     @GetMapping
-    public ResponseEntity<List<BookingResponse>> getAllBookings() {
-        List<BookingResponse> bookings = bookingService.getAllBookings();
-        return ResponseEntity.ok(bookings);
+    public ResponseEntity<List<BookingResponse>> getAllBookings(
+            BookingFilter filter,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        BookingPage page = bookingService.getBookingsPage(filter, cursor, limit);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getItems());
+    }
+
+    /**
+     * Streams every matching booking as newline-delimited JSON, written row
+     * by row straight to the response.
+     */
+    @GetMapping(params = "format=ndjson")
+    public ResponseEntity<StreamingResponseBody> exportBookings(BookingFilter filter) {
+        StreamingResponseBody body = out -> bookingService.exportBookings(filter, booking -> {
+            try {
+                out.write(objectMapper.writeValueAsBytes(booking));
+                out.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    /**
+     * Server-Sent Events feed of committed booking changes, optionally
+     * limited to one facility and/or date.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamBookingEvents(
+            @RequestParam(required = false) Long facilityId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        return eventBroadcaster.subscribe(facilityId, date);
     }
 
     @GetMapping("/{id}")
@@ -35,10 +105,53 @@ public class BookingController {
         return ResponseEntity.ok(booking);
     }
 
+    /**
+     * Creates a booking. With queued admission enabled the request goes
+     * through the per-facility admission queue: the call still waits for
+     * the outcome, but answers 202 with a ticket if that takes too long or
+     * if {@code async=true} was asked for.
+     */
     @PostMapping
-    public ResponseEntity<BookingResponse> createBooking(@Valid @RequestBody BookingRequest request) {
-        BookingResponse created = bookingService.createBooking(request);
-        return new ResponseEntity<>(created, HttpStatus.CREATED);
+    public ResponseEntity<?> createBooking(@Valid @RequestBody BookingRequest request,
+            @RequestParam(defaultValue = "false") boolean async) {
+        if (!admissionQueue.isEnabled()) {
+            BookingResponse created = bookingService.createBooking(request);
+            return new ResponseEntity<>(created, HttpStatus.CREATED);
+        }
+        BookingTicket ticket = admissionQueue.submit(request);
+        if (!async) {
+            ticket = admissionQueue.await(ticket.getId());
+        }
+        if (ticket.getState() == BookingTicket.State.PENDING) {
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/bookings/tickets/" + ticket.getId()))
+                    .body(ticket);
+        }
+        return new ResponseEntity<>(admissionQueue.unwrap(ticket), HttpStatus.CREATED);
+    }
+
+    @GetMapping("/tickets/{ticketId}")
+    public ResponseEntity<BookingTicket> getTicket(@PathVariable String ticketId) {
+        return ResponseEntity.ok(admissionQueue.getTicket(ticketId));
+    }
+
+    /**
+     * Creates many bookings at once. Returns 201 when every item was created,
+     * 409 when an ALL_OR_NOTHING batch was rejected, and 200 with per-item
+     * results when a PARTIAL batch had failures.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<BatchBookingResponse> createBookings(@Valid @RequestBody BatchBookingRequest request) {
+        BatchBookingResponse response = bookingService.createBookings(request);
+        HttpStatus status;
+        if (response.getFailed() == 0) {
+            status = HttpStatus.CREATED;
+        } else if (response.getMode() == BatchBookingRequest.Mode.PARTIAL) {
+            status = HttpStatus.OK;
+        } else {
+            status = HttpStatus.CONFLICT;
+        }
+        return new ResponseEntity<>(response, status);
     }
 
     @PutMapping("/{id}")
@@ -73,15 +186,27 @@ public class BookingController {
         return ResponseEntity.ok(isAvailable);
     }
 
+    /**
+     * Checks many (facility, date, start, end) slots with one query. Each
+     * result says whether the slot is free and which bookings overlap it.
+     */
+    @PostMapping("/check-availability/batch")
+    public ResponseEntity<List<AvailabilityCheckResult>> checkAvailabilityBatch(
+            @Valid @RequestBody BatchAvailabilityRequest request) {
+        return ResponseEntity.ok(availabilityService.checkSlots(request.getSlots()));
+    }
+
     @GetMapping("/user/{userId}")
-    public ResponseEntity<List<BookingResponse>> getBookingsByUser(@PathVariable Long userId) {
-        List<BookingResponse> bookings = bookingService.getBookingsByUser(userId);
+    public ResponseEntity<List<BookingResponse>> getBookingsByUser(@PathVariable Long userId,
+            @RequestParam(defaultValue = "false") boolean includeHistory) {
+        List<BookingResponse> bookings = bookingService.getBookingsByUser(userId, includeHistory);
         return ResponseEntity.ok(bookings);
     }
 
     @GetMapping("/facility/{facilityId}")
-    public ResponseEntity<List<BookingResponse>> getBookingsByFacility(@PathVariable Long facilityId) {
-        List<BookingResponse> bookings = bookingService.getBookingsByFacility(facilityId);
+    public ResponseEntity<List<BookingResponse>> getBookingsByFacility(@PathVariable Long facilityId,
+            @RequestParam(defaultValue = "false") boolean includeHistory) {
+        List<BookingResponse> bookings = bookingService.getBookingsByFacility(facilityId, includeHistory);
         return ResponseEntity.ok(bookings);
     }
 }
\ No newline at end of file
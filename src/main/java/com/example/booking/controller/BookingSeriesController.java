@@ -0,0 +1,48 @@
+package com.example.booking.controller;
+
+import com.example.booking.dto.BookingSeriesRequest;
+import com.example.booking.dto.BookingSeriesResponse;
+import com.example.booking.dto.BookingSeriesUpdateRequest;
+import com.example.booking.service.BookingSeriesService;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/bookings/series")
+@CrossOrigin(origins = "*")
+public class BookingSeriesController {
+
+    private final BookingSeriesService seriesService;
+
+    public BookingSeriesController(BookingSeriesService seriesService) {
+        this.seriesService = seriesService;
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<BookingSeriesResponse> getSeriesById(@PathVariable Long id) {
+        BookingSeriesResponse series = seriesService.getSeriesById(id);
+        return ResponseEntity.ok(series);
+    }
+
+    @PostMapping
+    public ResponseEntity<BookingSeriesResponse> createSeries(@Valid @RequestBody BookingSeriesRequest request) {
+        BookingSeriesResponse created = seriesService.createSeries(request);
+        return new ResponseEntity<>(created, HttpStatus.CREATED);
+    }
+
+    @PutMapping("/{id}")
+    public ResponseEntity<BookingSeriesResponse> updateSeries(
+            @PathVariable Long id,
+            @Valid @RequestBody BookingSeriesUpdateRequest request) {
+        BookingSeriesResponse updated = seriesService.updateSeries(id, request);
+        return ResponseEntity.ok(updated);
+    }
+
+    @PutMapping("/{id}/cancel")
+    public ResponseEntity<Void> cancelSeries(@PathVariable Long id) {
+        seriesService.cancelSeries(id);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -1,7 +1,11 @@
 package com.example.booking.controller;
 
+import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.List;
 
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
@@ -12,10 +16,16 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.example.booking.dto.AvailabilityGrid;
+import com.example.booking.dto.FreeSlotResult;
+import com.example.booking.dto.UtilizationReport;
 import com.example.booking.model.Facility;
+import com.example.booking.service.AvailabilityService;
 import com.example.booking.service.FacilityService;
+import com.example.booking.service.FacilityUtilizationService;
 
 @RestController
 @RequestMapping("/api/facilities")
@@ -23,9 +33,14 @@ import com.example.booking.service.FacilityService;
 public class FacilityController {
     
     private final FacilityService facilityService;
+    private final AvailabilityService availabilityService;
+    private final FacilityUtilizationService utilizationService;
     
-    public FacilityController(FacilityService facilityService) {
+    public FacilityController(FacilityService facilityService, AvailabilityService availabilityService,
+            FacilityUtilizationService utilizationService) {
         this.facilityService = facilityService;
+        this.availabilityService = availabilityService;
+        this.utilizationService = utilizationService;
     }
     
     @GetMapping
@@ -65,4 +80,55 @@ public class FacilityController {
         List<Facility> facilities = facilityService.getAvailableFacilities();
         return ResponseEntity.ok(facilities);
     }
-}
\ No newline at end of file
+    
+    /**
+     * Half-hour occupancy grid per facility per day. Carries ETag and
+     * Last-Modified so an unchanged grid is answered with 304 Not Modified.
+     */
+    @GetMapping("/availability")
+    public ResponseEntity<AvailabilityGrid> getAvailabilityGrid(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) List<Long> facilityIds) {
+        AvailabilityGrid grid = availabilityService.getAvailabilityGrid(from, to, facilityIds);
+        return ResponseEntity.ok()
+                .eTag(availabilityService.etagOf(grid))
+                .lastModified(availabilityService.getLastModified())
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(grid);
+    }
+    
+    /**
+     * Every available facility with room for {@code minCapacity} people that
+     * has a free gap of {@code durationMinutes} between {@code start} and
+     * {@code end} on the given date, earliest fit first.
+     */
+    @GetMapping("/search")
+    public ResponseEntity<List<FreeSlotResult>> searchFreeSlots(
+            @RequestParam(required = false) Integer minCapacity,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(required = false) String start,
+            @RequestParam(required = false) String end,
+            @RequestParam int durationMinutes) {
+        List<FreeSlotResult> results = availabilityService.findFreeSlots(
+                minCapacity, date,
+                start != null ? LocalTime.parse(start) : null,
+                end != null ? LocalTime.parse(end) : null,
+                durationMinutes);
+        return ResponseEntity.ok(results);
+    }
+    
+    /**
+     * Occupancy of one facility between {@code from} and {@code to}
+     * (inclusive) per day, per week or per hour of day, read from the
+     * utilization rollup.
+     */
+    @GetMapping("/{id}/utilization")
+    public ResponseEntity<UtilizationReport> getUtilization(
+            @PathVariable Long id,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "day") String granularity) {
+        return ResponseEntity.ok(utilizationService.getUtilization(id, from, to, granularity));
+    }
+}
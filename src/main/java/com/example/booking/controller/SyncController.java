@@ -0,0 +1,23 @@
+package com.example.booking.controller;
+
+import com.example.booking.dto.SyncResponse;
+import com.example.booking.service.SyncService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/sync")
+@CrossOrigin(origins = "*")
+public class SyncController {
+
+    private final SyncService syncService;
+
+    public SyncController(SyncService syncService) {
+        this.syncService = syncService;
+    }
+
+    @GetMapping
+    public ResponseEntity<SyncResponse> sync(@RequestParam(required = false) Long since) {
+        return ResponseEntity.ok(syncService.changesSince(since));
+    }
+}
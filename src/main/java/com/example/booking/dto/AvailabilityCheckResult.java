@@ -0,0 +1,51 @@
+package com.example.booking.dto;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+/**
+ * Answer for one slot of a batch availability check. The slot is echoed
+ * back; {@code conflictingBookingIds} lists the active bookings that
+ * overlap it, in start order, and is empty when the slot is available.
+ */
+public class AvailabilityCheckResult {
+
+    private Long facilityId;
+    private LocalDate date;
+    private LocalTime startTime;
+    private LocalTime endTime;
+    private boolean available;
+    private List<Long> conflictingBookingIds;
+
+    // Constructors
+    public AvailabilityCheckResult() {}
+
+    public AvailabilityCheckResult(BatchAvailabilityRequest.Slot slot, List<Long> conflictingBookingIds) {
+        this.facilityId = slot.getFacilityId();
+        this.date = slot.getDate();
+        this.startTime = slot.getStartTime();
+        this.endTime = slot.getEndTime();
+        this.available = conflictingBookingIds.isEmpty();
+        this.conflictingBookingIds = conflictingBookingIds;
+    }
+
+    // Getters and Setters
+    public Long getFacilityId() { return facilityId; }
+    public void setFacilityId(Long facilityId) { this.facilityId = facilityId; }
+
+    public LocalDate getDate() { return date; }
+    public void setDate(LocalDate date) { this.date = date; }
+
+    public LocalTime getStartTime() { return startTime; }
+    public void setStartTime(LocalTime startTime) { this.startTime = startTime; }
+
+    public LocalTime getEndTime() { return endTime; }
+    public void setEndTime(LocalTime endTime) { this.endTime = endTime; }
+
+    public boolean isAvailable() { return available; }
+    public void setAvailable(boolean available) { this.available = available; }
+
+    public List<Long> getConflictingBookingIds() { return conflictingBookingIds; }
+    public void setConflictingBookingIds(List<Long> conflictingBookingIds) { this.conflictingBookingIds = conflictingBookingIds; }
+}
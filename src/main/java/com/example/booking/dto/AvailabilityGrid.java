@@ -0,0 +1,60 @@
+package com.example.booking.dto;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+/**
+ * Occupancy of facilities over a date range. For each facility, {@code days}
+ * holds one bitset per day from {@code from} to {@code to}; bit i is set when
+ * the half-hour slot starting at {@code dayStart + i * slotMinutes} is booked.
+ */
+public class AvailabilityGrid {
+
+    private LocalDate from;
+    private LocalDate to;
+    private LocalTime dayStart;
+    private int slotMinutes;
+    private int slotsPerDay;
+    private List<FacilityOccupancy> facilities;
+
+    public static class FacilityOccupancy {
+        private Long facilityId;
+        private int[] days;
+
+        public FacilityOccupancy() {}
+
+        public FacilityOccupancy(Long facilityId, int[] days) {
+            this.facilityId = facilityId;
+            this.days = days;
+        }
+
+        public Long getFacilityId() { return facilityId; }
+        public void setFacilityId(Long facilityId) { this.facilityId = facilityId; }
+
+        public int[] getDays() { return days; }
+        public void setDays(int[] days) { this.days = days; }
+    }
+
+    // Constructors
+    public AvailabilityGrid() {}
+
+    // Getters and Setters
+    public LocalDate getFrom() { return from; }
+    public void setFrom(LocalDate from) { this.from = from; }
+
+    public LocalDate getTo() { return to; }
+    public void setTo(LocalDate to) { this.to = to; }
+
+    public LocalTime getDayStart() { return dayStart; }
+    public void setDayStart(LocalTime dayStart) { this.dayStart = dayStart; }
+
+    public int getSlotMinutes() { return slotMinutes; }
+    public void setSlotMinutes(int slotMinutes) { this.slotMinutes = slotMinutes; }
+
+    public int getSlotsPerDay() { return slotsPerDay; }
+    public void setSlotsPerDay(int slotsPerDay) { this.slotsPerDay = slotsPerDay; }
+
+    public List<FacilityOccupancy> getFacilities() { return facilities; }
+    public void setFacilities(List<FacilityOccupancy> facilities) { this.facilities = facilities; }
+}
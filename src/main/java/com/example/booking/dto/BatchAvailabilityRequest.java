@@ -0,0 +1,70 @@
+package com.example.booking.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+public class BatchAvailabilityRequest {
+
+    @NotEmpty(message = "At least one slot is required")
+    @Size(max = 2000, message = "A batch cannot contain more than 2000 slots")
+    @Valid
+    private List<Slot> slots;
+
+    public static class Slot {
+
+        @NotNull(message = "Facility ID is required")
+        private Long facilityId;
+
+        @NotNull(message = "Date is required")
+        private LocalDate date;
+
+        @NotNull(message = "Start time is required")
+        private LocalTime startTime;
+
+        @NotNull(message = "End time is required")
+        private LocalTime endTime;
+
+        @AssertTrue(message = "End time must be after start time")
+        private boolean isEndTimeAfterStartTime() {
+            return startTime == null || endTime == null || endTime.isAfter(startTime);
+        }
+
+        public Slot() {}
+
+        public Slot(Long facilityId, LocalDate date, LocalTime startTime, LocalTime endTime) {
+            this.facilityId = facilityId;
+            this.date = date;
+            this.startTime = startTime;
+            this.endTime = endTime;
+        }
+
+        public Long getFacilityId() { return facilityId; }
+        public void setFacilityId(Long facilityId) { this.facilityId = facilityId; }
+
+        public LocalDate getDate() { return date; }
+        public void setDate(LocalDate date) { this.date = date; }
+
+        public LocalTime getStartTime() { return startTime; }
+        public void setStartTime(LocalTime startTime) { this.startTime = startTime; }
+
+        public LocalTime getEndTime() { return endTime; }
+        public void setEndTime(LocalTime endTime) { this.endTime = endTime; }
+    }
+
+    // Constructors
+    public BatchAvailabilityRequest() {}
+
+    public BatchAvailabilityRequest(List<Slot> slots) {
+        this.slots = slots;
+    }
+
+    // Getters and Setters
+    public List<Slot> getSlots() { return slots; }
+    public void setSlots(List<Slot> slots) { this.slots = slots; }
+}
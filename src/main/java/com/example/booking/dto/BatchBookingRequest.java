@@ -0,0 +1,37 @@
+package com.example.booking.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+public class BatchBookingRequest {
+
+    public enum Mode {
+        // Nothing is saved unless every item can be booked
+        ALL_OR_NOTHING,
+        // Valid, conflict-free items are saved; the rest are reported
+        PARTIAL
+    }
+
+    private Mode mode = Mode.ALL_OR_NOTHING;
+
+    // Items are validated one by one in the service so each gets its own result
+    @NotEmpty(message = "At least one booking is required")
+    @Size(max = 500, message = "A batch cannot contain more than 500 bookings")
+    private List<BookingRequest> bookings;
+
+    // Constructors
+    public BatchBookingRequest() {}
+
+    public BatchBookingRequest(Mode mode, List<BookingRequest> bookings) {
+        this.mode = mode;
+        this.bookings = bookings;
+    }
+
+    // Getters and Setters
+    public Mode getMode() { return mode; }
+    public void setMode(Mode mode) { this.mode = mode; }
+
+    public List<BookingRequest> getBookings() { return bookings; }
+    public void setBookings(List<BookingRequest> bookings) { this.bookings = bookings; }
+}
@@ -0,0 +1,38 @@
+package com.example.booking.dto;
+
+import java.util.List;
+
+public class BatchBookingResponse {
+    private BatchBookingRequest.Mode mode;
+    private int created;
+    private int failed;
+    private List<BatchItemResult> results;
+
+    // Constructors
+    public BatchBookingResponse() {}
+
+    public BatchBookingResponse(BatchBookingRequest.Mode mode, List<BatchItemResult> results) {
+        this.mode = mode;
+        this.results = results;
+        for (BatchItemResult result : results) {
+            if (result.getStatus() == BatchItemResult.Status.CREATED) {
+                created++;
+            } else if (result.getStatus() != BatchItemResult.Status.SKIPPED) {
+                failed++;
+            }
+        }
+    }
+
+    // Getters and Setters
+    public BatchBookingRequest.Mode getMode() { return mode; }
+    public void setMode(BatchBookingRequest.Mode mode) { this.mode = mode; }
+
+    public int getCreated() { return created; }
+    public void setCreated(int created) { this.created = created; }
+
+    public int getFailed() { return failed; }
+    public void setFailed(int failed) { this.failed = failed; }
+
+    public List<BatchItemResult> getResults() { return results; }
+    public void setResults(List<BatchItemResult> results) { this.results = results; }
+}
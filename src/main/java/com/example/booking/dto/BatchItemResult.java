@@ -0,0 +1,51 @@
+package com.example.booking.dto;
+
+import java.util.List;
+
+/**
+ * Outcome of one item of a batch booking request, reported at the same
+ * index as the item in the request.
+ */
+public class BatchItemResult {
+
+    public enum Status {
+        CREATED,
+        INVALID,
+        NOT_FOUND,
+        UNAVAILABLE,
+        CONFLICT,
+        // Item was fine but not saved because another item failed (ALL_OR_NOTHING)
+        SKIPPED
+    }
+
+    private int index;
+    private Status status;
+    private BookingResponse booking;
+    private String message;
+    private List<String> details;
+
+    // Constructors
+    public BatchItemResult() {}
+
+    public BatchItemResult(int index, Status status, String message) {
+        this.index = index;
+        this.status = status;
+        this.message = message;
+    }
+
+    // Getters and Setters
+    public int getIndex() { return index; }
+    public void setIndex(int index) { this.index = index; }
+
+    public Status getStatus() { return status; }
+    public void setStatus(Status status) { this.status = status; }
+
+    public BookingResponse getBooking() { return booking; }
+    public void setBooking(BookingResponse booking) { this.booking = booking; }
+
+    public String getMessage() { return message; }
+    public void setMessage(String message) { this.message = message; }
+
+    public List<String> getDetails() { return details; }
+    public void setDetails(List<String> details) { this.details = details; }
+}
@@ -0,0 +1,82 @@
+package com.example.booking.dto;
+
+import java.time.LocalDate;
+
+/**
+ * A committed change to one booking, published by the booking services and
+ * pushed to GET /api/bookings/stream subscribers.
+ *
+ * CREATED and UPDATED carry the full booking. CANCELLED and DELETED only
+ * identify it. An UPDATED booking that moved also carries where it was
+ * before, so a client watching the old facility or date sees it leave.
+ */
+public class BookingEvent {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        CANCELLED,
+        DELETED
+    }
+
+    private Type type;
+    private Long bookingId;
+    private Long facilityId;
+    private LocalDate date;
+    private Long previousFacilityId;
+    private LocalDate previousDate;
+    private BookingResponse booking;
+
+    // Constructors
+    public BookingEvent() {}
+
+    public BookingEvent(Type type, Long bookingId, Long facilityId, LocalDate date) {
+        this.type = type;
+        this.bookingId = bookingId;
+        this.facilityId = facilityId;
+        this.date = date;
+    }
+
+    public static BookingEvent of(Type type, BookingResponse booking) {
+        BookingEvent event = new BookingEvent(type, booking.getId(), booking.getFacilityId(), booking.getDate());
+        event.setBooking(booking);
+        return event;
+    }
+
+    /**
+     * Whether a subscriber filtering on this facility and/or date (null
+     * meaning any) should receive the event.
+     */
+    public boolean matches(Long facilityFilter, LocalDate dateFilter) {
+        return matches(facilityId, date, facilityFilter, dateFilter)
+                || (previousFacilityId != null
+                        && matches(previousFacilityId, previousDate, facilityFilter, dateFilter));
+    }
+
+    private static boolean matches(Long facilityId, LocalDate date, Long facilityFilter, LocalDate dateFilter) {
+        return (facilityFilter == null || facilityFilter.equals(facilityId))
+                && (dateFilter == null || dateFilter.equals(date));
+    }
+
+    // Getters and Setters
+    public Type getType() { return type; }
+    public void setType(Type type) { this.type = type; }
+
+    public Long getBookingId() { return bookingId; }
+    public void setBookingId(Long bookingId) { this.bookingId = bookingId; }
+
+    public Long getFacilityId() { return facilityId; }
+    public void setFacilityId(Long facilityId) { this.facilityId = facilityId; }
+
+    public LocalDate getDate() { return date; }
+    public void setDate(LocalDate date) { this.date = date; }
+
+    public Long getPreviousFacilityId() { return previousFacilityId; }
+    public void setPreviousFacilityId(Long previousFacilityId) { this.previousFacilityId = previousFacilityId; }
+
+    public LocalDate getPreviousDate() { return previousDate; }
+    public void setPreviousDate(LocalDate previousDate) { this.previousDate = previousDate; }
+
+    public BookingResponse getBooking() { return booking; }
+    public void setBooking(BookingResponse booking) { this.booking = booking; }
+}
@@ -0,0 +1,48 @@
+package com.example.booking.dto;
+
+import com.example.booking.model.BookingStatus;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+/**
+ * Optional query-string filters for listing bookings. Any field left null
+ * is not filtered on; {@code from} and {@code to} are inclusive. Archived
+ * bookings are only listed with {@code includeHistory=true}.
+ */
+public class BookingFilter {
+
+    private BookingStatus status;
+    private Long facilityId;
+    private Long userId;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate from;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate to;
+
+    private boolean includeHistory;
+
+    // Constructors
+    public BookingFilter() {}
+
+    // Getters and Setters
+    public BookingStatus getStatus() { return status; }
+    public void setStatus(BookingStatus status) { this.status = status; }
+
+    public Long getFacilityId() { return facilityId; }
+    public void setFacilityId(Long facilityId) { this.facilityId = facilityId; }
+
+    public Long getUserId() { return userId; }
+    public void setUserId(Long userId) { this.userId = userId; }
+
+    public LocalDate getFrom() { return from; }
+    public void setFrom(LocalDate from) { this.from = from; }
+
+    public LocalDate getTo() { return to; }
+    public void setTo(LocalDate to) { this.to = to; }
+
+    public boolean isIncludeHistory() { return includeHistory; }
+    public void setIncludeHistory(boolean includeHistory) { this.includeHistory = includeHistory; }
+}
@@ -0,0 +1,27 @@
+package com.example.booking.dto;
+
+import java.util.List;
+
+/**
+ * One page of bookings plus the opaque cursor for the next page,
+ * which is null once the last page has been reached.
+ */
+public class BookingPage {
+    private List<BookingResponse> items;
+    private String nextCursor;
+
+    // Constructors
+    public BookingPage() {}
+
+    public BookingPage(List<BookingResponse> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    // Getters and Setters
+    public List<BookingResponse> getItems() { return items; }
+    public void setItems(List<BookingResponse> items) { this.items = items; }
+
+    public String getNextCursor() { return nextCursor; }
+    public void setNextCursor(String nextCursor) { this.nextCursor = nextCursor; }
+}
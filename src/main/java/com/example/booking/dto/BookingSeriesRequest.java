@@ -0,0 +1,122 @@
+package com.example.booking.dto;
+
+import com.example.booking.model.RecurrenceFrequency;
+import jakarta.validation.constraints.*;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+public class BookingSeriesRequest {
+
+    @NotNull(message = "User ID is required")
+    private Long userId;
+
+    @NotNull(message = "Facility ID is required")
+    private Long facilityId;
+
+    @NotNull(message = "Start date is required")
+    @FutureOrPresent(message = "Start date must be present or future")
+    private LocalDate startDate;
+
+    @NotNull(message = "Start time is required")
+    private LocalTime startTime;
+
+    @NotNull(message = "End time is required")
+    private LocalTime endTime;
+
+    @NotNull(message = "Frequency is required")
+    private RecurrenceFrequency frequency;
+
+    @Min(value = 1, message = "Interval must be at least 1")
+    @Max(value = 52, message = "Interval cannot exceed 52")
+    private Integer interval = 1;
+
+    private LocalDate until;
+
+    @Min(value = 1, message = "Count must be at least 1")
+    @Max(value = 366, message = "Count cannot exceed 366")
+    private Integer count;
+
+    private List<LocalDate> exceptionDates = new ArrayList<>();
+
+    @Size(max = 500, message = "Purpose cannot exceed 500 characters")
+    private String purpose;
+
+    @AssertTrue(message = "Either until or count is required")
+    private boolean isBounded() {
+        return until != null || count != null;
+    }
+
+    @AssertTrue(message = "Until must not be before the start date")
+    private boolean isUntilAfterStart() {
+        return until == null || startDate == null || !until.isBefore(startDate);
+    }
+
+    @AssertTrue(message = "Until allows more than 366 occurrences; use a closer date or a count")
+    private boolean isUntilWithinLimit() {
+        if (until == null || count != null || startDate == null || frequency == null) return true;
+        if (until.isBefore(startDate)) return true; // Reported by isUntilAfterStart
+        long every = interval == null || interval < 1 ? 1 : interval;
+        long stepDays = frequency == RecurrenceFrequency.DAILY ? every : every * 7;
+        return ChronoUnit.DAYS.between(startDate, until) / stepDays + 1 <= 366;
+    }
+
+    @AssertTrue(message = "Cannot book in the past")
+    private boolean isNotInPast() {
+        if (startDate == null || startTime == null) return true;
+        if (!startDate.equals(LocalDate.now())) return true;
+        return startTime.isAfter(LocalTime.now());
+    }
+
+    @AssertTrue(message = "End time must be after start time")
+    private boolean isEndTimeAfterStartTime() {
+        return startTime != null && endTime != null && endTime.isAfter(startTime);
+    }
+
+    @AssertTrue(message = "Booking times must be within operating hours (08:00 - 20:00)")
+    private boolean isWithinOperatingHours() {
+        if (startTime == null || endTime == null) return true; // Let @NotNull handle nulls
+        LocalTime open = LocalTime.of(8, 0);
+        LocalTime close = LocalTime.of(20, 0);
+        return !startTime.isBefore(open) && !endTime.isAfter(close);
+    }
+
+    // Constructors
+    public BookingSeriesRequest() {}
+
+    // Getters and Setters
+    public Long getUserId() { return userId; }
+    public void setUserId(Long userId) { this.userId = userId; }
+
+    public Long getFacilityId() { return facilityId; }
+    public void setFacilityId(Long facilityId) { this.facilityId = facilityId; }
+
+    public LocalDate getStartDate() { return startDate; }
+    public void setStartDate(LocalDate startDate) { this.startDate = startDate; }
+
+    public LocalTime getStartTime() { return startTime; }
+    public void setStartTime(LocalTime startTime) { this.startTime = startTime; }
+
+    public LocalTime getEndTime() { return endTime; }
+    public void setEndTime(LocalTime endTime) { this.endTime = endTime; }
+
+    public RecurrenceFrequency getFrequency() { return frequency; }
+    public void setFrequency(RecurrenceFrequency frequency) { this.frequency = frequency; }
+
+    public Integer getInterval() { return interval; }
+    public void setInterval(Integer interval) { this.interval = interval; }
+
+    public LocalDate getUntil() { return until; }
+    public void setUntil(LocalDate until) { this.until = until; }
+
+    public Integer getCount() { return count; }
+    public void setCount(Integer count) { this.count = count; }
+
+    public List<LocalDate> getExceptionDates() { return exceptionDates; }
+    public void setExceptionDates(List<LocalDate> exceptionDates) { this.exceptionDates = exceptionDates; }
+
+    public String getPurpose() { return purpose; }
+    public void setPurpose(String purpose) { this.purpose = purpose; }
+}
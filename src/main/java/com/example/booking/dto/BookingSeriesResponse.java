@@ -0,0 +1,67 @@
+package com.example.booking.dto;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Set;
+
+import com.example.booking.model.RecurrenceFrequency;
+
+public class BookingSeriesResponse {
+    private Long id;
+    private Long userId;
+    private Long facilityId;
+    private LocalTime startTime;
+    private LocalTime endTime;
+    private String purpose;
+    private RecurrenceFrequency frequency;
+    private Integer interval;
+    private LocalDate startDate;
+    private LocalDate until;
+    private Integer count;
+    private Set<LocalDate> exceptionDates;
+    private List<BookingResponse> occurrences;
+
+    // Constructors
+    public BookingSeriesResponse() {}
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public Long getUserId() { return userId; }
+    public void setUserId(Long userId) { this.userId = userId; }
+
+    public Long getFacilityId() { return facilityId; }
+    public void setFacilityId(Long facilityId) { this.facilityId = facilityId; }
+
+    public LocalTime getStartTime() { return startTime; }
+    public void setStartTime(LocalTime startTime) { this.startTime = startTime; }
+
+    public LocalTime getEndTime() { return endTime; }
+    public void setEndTime(LocalTime endTime) { this.endTime = endTime; }
+
+    public String getPurpose() { return purpose; }
+    public void setPurpose(String purpose) { this.purpose = purpose; }
+
+    public RecurrenceFrequency getFrequency() { return frequency; }
+    public void setFrequency(RecurrenceFrequency frequency) { this.frequency = frequency; }
+
+    public Integer getInterval() { return interval; }
+    public void setInterval(Integer interval) { this.interval = interval; }
+
+    public LocalDate getStartDate() { return startDate; }
+    public void setStartDate(LocalDate startDate) { this.startDate = startDate; }
+
+    public LocalDate getUntil() { return until; }
+    public void setUntil(LocalDate until) { this.until = until; }
+
+    public Integer getCount() { return count; }
+    public void setCount(Integer count) { this.count = count; }
+
+    public Set<LocalDate> getExceptionDates() { return exceptionDates; }
+    public void setExceptionDates(Set<LocalDate> exceptionDates) { this.exceptionDates = exceptionDates; }
+
+    public List<BookingResponse> getOccurrences() { return occurrences; }
+    public void setOccurrences(List<BookingResponse> occurrences) { this.occurrences = occurrences; }
+}
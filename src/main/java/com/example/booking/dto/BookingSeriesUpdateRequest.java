@@ -0,0 +1,46 @@
+package com.example.booking.dto;
+
+import jakarta.validation.constraints.*;
+import java.time.LocalTime;
+
+/**
+ * Changes applied to every remaining (today or later, not cancelled)
+ * occurrence of a series.
+ */
+public class BookingSeriesUpdateRequest {
+
+    @NotNull(message = "Start time is required")
+    private LocalTime startTime;
+
+    @NotNull(message = "End time is required")
+    private LocalTime endTime;
+
+    @Size(max = 500, message = "Purpose cannot exceed 500 characters")
+    private String purpose;
+
+    @AssertTrue(message = "End time must be after start time")
+    private boolean isEndTimeAfterStartTime() {
+        return startTime != null && endTime != null && endTime.isAfter(startTime);
+    }
+
+    @AssertTrue(message = "Booking times must be within operating hours (08:00 - 20:00)")
+    private boolean isWithinOperatingHours() {
+        if (startTime == null || endTime == null) return true; // Let @NotNull handle nulls
+        LocalTime open = LocalTime.of(8, 0);
+        LocalTime close = LocalTime.of(20, 0);
+        return !startTime.isBefore(open) && !endTime.isAfter(close);
+    }
+
+    // Constructors
+    public BookingSeriesUpdateRequest() {}
+
+    // Getters and Setters
+    public LocalTime getStartTime() { return startTime; }
+    public void setStartTime(LocalTime startTime) { this.startTime = startTime; }
+
+    public LocalTime getEndTime() { return endTime; }
+    public void setEndTime(LocalTime endTime) { this.endTime = endTime; }
+
+    public String getPurpose() { return purpose; }
+    public void setPurpose(String purpose) { this.purpose = purpose; }
+}
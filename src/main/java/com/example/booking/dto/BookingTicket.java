@@ -0,0 +1,42 @@
+package com.example.booking.dto;
+
+/**
+ * Handle for a booking request accepted by the admission queue. Poll
+ * GET /api/bookings/tickets/{id} until the state leaves PENDING; the
+ * outcome is then in {@code result}, in the same shape as a batch item.
+ */
+public class BookingTicket {
+
+    public enum State {
+        PENDING,
+        COMPLETED,
+        // The writer hit an unexpected error; see message
+        FAILED
+    }
+
+    private String id;
+    private State state;
+    private BatchItemResult result;
+    private String message;
+
+    // Constructors
+    public BookingTicket() {}
+
+    public BookingTicket(String id, State state) {
+        this.id = id;
+        this.state = state;
+    }
+
+    // Getters and Setters
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+
+    public State getState() { return state; }
+    public void setState(State state) { this.state = state; }
+
+    public BatchItemResult getResult() { return result; }
+    public void setResult(BatchItemResult result) { this.result = result; }
+
+    public String getMessage() { return message; }
+    public void setMessage(String message) { this.message = message; }
+}
@@ -0,0 +1,46 @@
+package com.example.booking.dto;
+
+import java.time.LocalTime;
+
+/**
+ * A facility that can host the requested booking, with the earliest slot
+ * that fits and the free gap that slot sits in.
+ */
+public class FreeSlotResult {
+    private Long facilityId;
+    private String facilityName;
+    private String location;
+    private Integer capacity;
+    private LocalTime earliestStart;
+    private LocalTime earliestEnd;
+    private LocalTime gapStart;
+    private LocalTime gapEnd;
+
+    // Constructors
+    public FreeSlotResult() {}
+
+    // Getters and Setters
+    public Long getFacilityId() { return facilityId; }
+    public void setFacilityId(Long facilityId) { this.facilityId = facilityId; }
+
+    public String getFacilityName() { return facilityName; }
+    public void setFacilityName(String facilityName) { this.facilityName = facilityName; }
+
+    public String getLocation() { return location; }
+    public void setLocation(String location) { this.location = location; }
+
+    public Integer getCapacity() { return capacity; }
+    public void setCapacity(Integer capacity) { this.capacity = capacity; }
+
+    public LocalTime getEarliestStart() { return earliestStart; }
+    public void setEarliestStart(LocalTime earliestStart) { this.earliestStart = earliestStart; }
+
+    public LocalTime getEarliestEnd() { return earliestEnd; }
+    public void setEarliestEnd(LocalTime earliestEnd) { this.earliestEnd = earliestEnd; }
+
+    public LocalTime getGapStart() { return gapStart; }
+    public void setGapStart(LocalTime gapStart) { this.gapStart = gapStart; }
+
+    public LocalTime getGapEnd() { return gapEnd; }
+    public void setGapEnd(LocalTime gapEnd) { this.gapEnd = gapEnd; }
+}
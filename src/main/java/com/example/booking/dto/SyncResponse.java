@@ -0,0 +1,47 @@
+package com.example.booking.dto;
+
+import com.example.booking.model.Facility;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bookings and facilities written, and ids deleted, since the client's last
+ * cursor. Pass {@code cursor} back as {@code since} on the next call. When
+ * {@code resync} is true the change set was too large to send and the
+ * client should reload everything instead.
+ */
+public class SyncResponse {
+    private long cursor;
+    private boolean resync;
+    private List<BookingResponse> bookings = new ArrayList<>();
+    private List<Facility> facilities = new ArrayList<>();
+    private List<Long> deletedBookingIds = new ArrayList<>();
+    private List<Long> deletedFacilityIds = new ArrayList<>();
+
+    // Constructors
+    public SyncResponse() {}
+
+    public SyncResponse(long cursor) {
+        this.cursor = cursor;
+    }
+
+    // Getters and Setters
+    public long getCursor() { return cursor; }
+    public void setCursor(long cursor) { this.cursor = cursor; }
+
+    public boolean isResync() { return resync; }
+    public void setResync(boolean resync) { this.resync = resync; }
+
+    public List<BookingResponse> getBookings() { return bookings; }
+    public void setBookings(List<BookingResponse> bookings) { this.bookings = bookings; }
+
+    public List<Facility> getFacilities() { return facilities; }
+    public void setFacilities(List<Facility> facilities) { this.facilities = facilities; }
+
+    public List<Long> getDeletedBookingIds() { return deletedBookingIds; }
+    public void setDeletedBookingIds(List<Long> deletedBookingIds) { this.deletedBookingIds = deletedBookingIds; }
+
+    public List<Long> getDeletedFacilityIds() { return deletedFacilityIds; }
+    public void setDeletedFacilityIds(List<Long> deletedFacilityIds) { this.deletedFacilityIds = deletedFacilityIds; }
+}
@@ -0,0 +1,92 @@
+package com.example.booking.dto;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+/**
+ * Occupancy of one facility over a date range, in buckets of one day, one
+ * week or one hour of day. {@code occupancy} is booked minutes divided by
+ * open minutes: the bookable day from {@code openFrom} to {@code openTo}
+ * for each day in a day or week bucket, and 60 minutes per day of the
+ * range for an hour-of-day bucket.
+ */
+public class UtilizationReport {
+
+    public enum Granularity {
+        DAY,
+        WEEK,
+        HOUR
+    }
+
+    private Long facilityId;
+    private LocalDate from;
+    private LocalDate to;
+    private Granularity granularity;
+    private LocalTime openFrom;
+    private LocalTime openTo;
+    private List<Bucket> buckets;
+
+    public static class Bucket {
+        private LocalDate start;
+        private LocalDate end;
+        private Integer hourOfDay;
+        private long bookedMinutes;
+        private long openMinutes;
+        private double occupancy;
+
+        public Bucket() {}
+
+        public Bucket(LocalDate start, LocalDate end, Integer hourOfDay, long bookedMinutes, long openMinutes) {
+            this.start = start;
+            this.end = end;
+            this.hourOfDay = hourOfDay;
+            this.bookedMinutes = bookedMinutes;
+            this.openMinutes = openMinutes;
+            this.occupancy = openMinutes == 0 ? 0 : Math.round(bookedMinutes * 10_000.0 / openMinutes) / 10_000.0;
+        }
+
+        public LocalDate getStart() { return start; }
+        public void setStart(LocalDate start) { this.start = start; }
+
+        public LocalDate getEnd() { return end; }
+        public void setEnd(LocalDate end) { this.end = end; }
+
+        public Integer getHourOfDay() { return hourOfDay; }
+        public void setHourOfDay(Integer hourOfDay) { this.hourOfDay = hourOfDay; }
+
+        public long getBookedMinutes() { return bookedMinutes; }
+        public void setBookedMinutes(long bookedMinutes) { this.bookedMinutes = bookedMinutes; }
+
+        public long getOpenMinutes() { return openMinutes; }
+        public void setOpenMinutes(long openMinutes) { this.openMinutes = openMinutes; }
+
+        public double getOccupancy() { return occupancy; }
+        public void setOccupancy(double occupancy) { this.occupancy = occupancy; }
+    }
+
+    // Constructors
+    public UtilizationReport() {}
+
+    // Getters and Setters
+    public Long getFacilityId() { return facilityId; }
+    public void setFacilityId(Long facilityId) { this.facilityId = facilityId; }
+
+    public LocalDate getFrom() { return from; }
+    public void setFrom(LocalDate from) { this.from = from; }
+
+    public LocalDate getTo() { return to; }
+    public void setTo(LocalDate to) { this.to = to; }
+
+    public Granularity getGranularity() { return granularity; }
+    public void setGranularity(Granularity granularity) { this.granularity = granularity; }
+
+    public LocalTime getOpenFrom() { return openFrom; }
+    public void setOpenFrom(LocalTime openFrom) { this.openFrom = openFrom; }
+
+    public LocalTime getOpenTo() { return openTo; }
+    public void setOpenTo(LocalTime openTo) { this.openTo = openTo; }
+
+    public List<Bucket> getBuckets() { return buckets; }
+    public void setBuckets(List<Bucket> buckets) { this.buckets = buckets; }
+}
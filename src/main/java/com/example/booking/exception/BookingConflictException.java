@@ -1,7 +1,18 @@
 package com.example.booking.exception;
 
+import java.util.List;
+
 public class BookingConflictException extends RuntimeException {
+    private final List<String> details;
+
     public BookingConflictException(String message) {
+        this(message, null);
+    }
+
+    public BookingConflictException(String message, List<String> details) {
         super(message);
+        this.details = details;
     }
+
+    public List<String> getDetails() { return details; }
 }
\ No newline at end of file
@@ -1,22 +1,55 @@
 package com.example.booking.exception;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.validation.ConstraintViolationException;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.validation.FieldError;
+import org.springframework.web.HttpRequestMethodNotSupportedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.resource.NoResourceFoundException;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    // Rejected requests, exported as booking_conflicts_total and
+    // booking_validation_failures_total{type=...}
+    private final Counter conflicts;
+    private final Counter fieldValidationFailures;
+    private final Counter constraintValidationFailures;
+    private final Counter argumentValidationFailures;
+
+    public GlobalExceptionHandler(MeterRegistry meterRegistry) {
+        this.conflicts = Counter.builder("booking.conflicts")
+                .description("Requests rejected because the time slot was taken")
+                .register(meterRegistry);
+        this.fieldValidationFailures = validationFailures(meterRegistry, "field");
+        this.constraintValidationFailures = validationFailures(meterRegistry, "constraint");
+        this.argumentValidationFailures = validationFailures(meterRegistry, "argument");
+    }
+
+    private static Counter validationFailures(MeterRegistry meterRegistry, String type) {
+        return Counter.builder("booking.validation.failures")
+                .description("Requests rejected as invalid")
+                .tag("type", type)
+                .register(meterRegistry);
+    }
+
     @ExceptionHandler(EntityNotFoundException.class)
     public ResponseEntity<ApiError> handleEntityNotFound(
             EntityNotFoundException ex, WebRequest request) {
@@ -31,10 +64,24 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(BookingConflictException.class)
     public ResponseEntity<ApiError> handleBookingConflict(
             BookingConflictException ex, WebRequest request) {
+        conflicts.increment();
         ApiError error = new ApiError(
                 HttpStatus.CONFLICT.value(),
                 "Time Slot Unavailable",
                 "That time slot is already booked. Please choose a different time.",
+                request.getDescription(false),
+                ex.getDetails());
+        return new ResponseEntity<>(error, HttpStatus.CONFLICT);
+    }
+
+    // Still losing to concurrent writes after the service's retries
+    @ExceptionHandler(ConcurrencyFailureException.class)
+    public ResponseEntity<ApiError> handleConcurrentUpdate(
+            ConcurrencyFailureException ex, WebRequest request) {
+        ApiError error = new ApiError(
+                HttpStatus.CONFLICT.value(),
+                "Concurrent Update",
+                "Someone else changed this at the same time. Please reload and try again.",
                 request.getDescription(false));
         return new ResponseEntity<>(error, HttpStatus.CONFLICT);
     }
@@ -64,6 +111,7 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<ApiError> handleIllegalArgument(
             IllegalArgumentException ex, WebRequest request) {
+        argumentValidationFailures.increment();
         ApiError error = new ApiError(
                 HttpStatus.BAD_REQUEST.value(),
                 "Invalid Request",
@@ -75,6 +123,7 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ApiError> handleValidationExceptions(
             MethodArgumentNotValidException ex, WebRequest request) {
+        fieldValidationFailures.increment();
         List<String> details = new ArrayList<>();
         ex.getBindingResult().getAllErrors().forEach(error -> {
             String fieldName = ((FieldError) error).getField();
@@ -94,6 +143,7 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(ConstraintViolationException.class)
     public ResponseEntity<ApiError> handleConstraintViolation(
             ConstraintViolationException ex, WebRequest request) {
+        constraintValidationFailures.increment();
         List<String> details = new ArrayList<>();
         ex.getConstraintViolations().forEach(violation -> {
             details.add(violation.getMessage());
@@ -108,6 +158,59 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
     }
 
+    // No database connection became free within the pool's connection timeout,
+    // or the booking admission queue is full
+    @ExceptionHandler({CannotCreateTransactionException.class, DataAccessResourceFailureException.class,
+            RejectedExecutionException.class})
+    public ResponseEntity<ApiError> handleDatabaseBusy(
+            RuntimeException ex, WebRequest request) {
+        ApiError error = new ApiError(
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "Service Busy",
+                "The system is handling a lot of requests right now. Please try again in a moment.",
+                request.getDescription(false));
+        return new ResponseEntity<>(error, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    // Raised by RateLimitFilter, which hands it to this class through the HandlerExceptionResolver
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<ApiError> handleRateLimited(
+            RateLimitExceededException ex, WebRequest request) {
+        ApiError error = new ApiError(
+                HttpStatus.TOO_MANY_REQUESTS.value(),
+                "Too Many Requests",
+                "You are sending requests too quickly. Please wait a moment and try again.",
+                request.getDescription(false));
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(error);
+    }
+
+    // No such path, e.g. an actuator endpoint that is not exposed
+    @ExceptionHandler(NoResourceFoundException.class)
+    public ResponseEntity<ApiError> handleNoResource(
+            NoResourceFoundException ex, WebRequest request) {
+        ApiError error = new ApiError(
+                HttpStatus.NOT_FOUND.value(),
+                "Not Found",
+                "There is nothing at this address.",
+                request.getDescription(false));
+        return new ResponseEntity<>(error, HttpStatus.NOT_FOUND);
+    }
+
+    @ExceptionHandler(HttpRequestMethodNotSupportedException.class)
+    public ResponseEntity<ApiError> handleMethodNotSupported(
+            HttpRequestMethodNotSupportedException ex, WebRequest request) {
+        ApiError error = new ApiError(
+                HttpStatus.METHOD_NOT_ALLOWED.value(),
+                "Method Not Allowed",
+                ex.getMethod() + " is not supported here.",
+                request.getDescription(false));
+        return ResponseEntity.status(HttpStatus.METHOD_NOT_ALLOWED)
+                .allow(ex.getSupportedHttpMethods().toArray(new HttpMethod[0]))
+                .body(error);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ApiError> handleGenericException(
             Exception ex, WebRequest request) {
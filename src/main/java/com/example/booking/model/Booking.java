@@ -6,28 +6,40 @@ import java.time.LocalTime;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+
+import org.hibernate.annotations.Type;
+
+import com.example.booking.service.ChangeStampListener;
 
 @Entity
 @Table(name = "bookings")
-public class Booking {
+@EntityListeners(ChangeStampListener.class)
+public class Booking implements ChangeTracked {
+    // Pooled sequence (not IDENTITY) so inserts can be sent as JDBC batches;
+    // bookings_id_seq must be INCREMENT BY 50 to match allocationSize
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "bookings_seq")
+    @SequenceGenerator(name = "bookings_seq", sequenceName = "bookings_id_seq", allocationSize = 50)
     private Long id;
     
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
     
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "facility_id", nullable = false)
     private Facility facility;
     
@@ -40,14 +52,38 @@ public class Booking {
     @Column(name = "end_time", nullable = false)
     private LocalTime endTime;
     
+    // Generated column: tsrange(date + start_time, date + end_time, '[)').
+    // Only read here; conflict queries use it through ranges_overlap()
+    @Type(TimeRangeType.class)
+    @Column(name = "slot", insertable = false, updatable = false, columnDefinition = "tsrange")
+    private TimeRange slot;
+    
     @Enumerated(EnumType.STRING)
     private BookingStatus status = BookingStatus.CONFIRMED;
     
     private String purpose;
     
+    // Set when this booking is one occurrence of a recurring series
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "series_id")
+    private BookingSeries series;
+    
     @Column(name = "created_at")
     private LocalDateTime createdAt;
     
+    // Optimistic lock: concurrent updates/cancels of the same booking fail at commit
+    // (the column default lets schema update add it to tables that already have rows)
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private Long version;
+    
+    // Change number of the last transaction that wrote this row (delta sync)
+    @Column(name = "change_seq")
+    private Long changeSeq;
+    
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+    
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
@@ -85,12 +121,29 @@ public class Booking {
     public LocalTime getEndTime() { return endTime; }
     public void setEndTime(LocalTime endTime) { this.endTime = endTime; }
     
+    // Computed rather than read back, so it is current before the row is flushed
+    public TimeRange getSlot() { return TimeRange.of(date, startTime, endTime); }
+    
     public BookingStatus getStatus() { return status; }
     public void setStatus(BookingStatus status) { this.status = status; }
     
     public String getPurpose() { return purpose; }
     public void setPurpose(String purpose) { this.purpose = purpose; }
     
+    public BookingSeries getSeries() { return series; }
+    public void setSeries(BookingSeries series) { this.series = series; }
+    
     public LocalDateTime getCreatedAt() { return createdAt; }
     public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+    
+    public Long getVersion() { return version; }
+    
+    public Long getChangeSeq() { return changeSeq; }
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    
+    @Override
+    public void stampChange(long changeSeq, LocalDateTime updatedAt) {
+        this.changeSeq = changeSeq;
+        this.updatedAt = updatedAt;
+    }
 }
\ No newline at end of file
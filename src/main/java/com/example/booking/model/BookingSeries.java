@@ -0,0 +1,112 @@
+package com.example.booking.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * A recurring booking: the same facility and time of day, repeated daily or
+ * weekly from {@code startDate} until {@code untilDate} or for
+ * {@code occurrenceCount} occurrences (RRULE UNTIL / COUNT), minus any
+ * exception dates. Each occurrence is stored as an ordinary {@link Booking}
+ * that points back to its series.
+ */
+@Entity
+@Table(name = "booking_series")
+public class BookingSeries {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "facility_id", nullable = false)
+    private Facility facility;
+
+    @Column(name = "start_time", nullable = false)
+    private LocalTime startTime;
+
+    @Column(name = "end_time", nullable = false)
+    private LocalTime endTime;
+
+    private String purpose;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private RecurrenceFrequency frequency;
+
+    // Repeat every N days or weeks ("interval" is a reserved word in SQL)
+    @Column(name = "repeat_interval", nullable = false)
+    private Integer repeatInterval = 1;
+
+    @Column(name = "start_date", nullable = false)
+    private LocalDate startDate;
+
+    @Column(name = "until_date")
+    private LocalDate untilDate;
+
+    @Column(name = "occurrence_count")
+    private Integer occurrenceCount;
+
+    @ElementCollection
+    @CollectionTable(name = "booking_series_exceptions", joinColumns = @JoinColumn(name = "series_id"))
+    @Column(name = "exception_date")
+    private Set<LocalDate> exceptionDates = new LinkedHashSet<>();
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+
+    // Constructors
+    public BookingSeries() {}
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public User getUser() { return user; }
+    public void setUser(User user) { this.user = user; }
+
+    public Facility getFacility() { return facility; }
+    public void setFacility(Facility facility) { this.facility = facility; }
+
+    public LocalTime getStartTime() { return startTime; }
+    public void setStartTime(LocalTime startTime) { this.startTime = startTime; }
+
+    public LocalTime getEndTime() { return endTime; }
+    public void setEndTime(LocalTime endTime) { this.endTime = endTime; }
+
+    public String getPurpose() { return purpose; }
+    public void setPurpose(String purpose) { this.purpose = purpose; }
+
+    public RecurrenceFrequency getFrequency() { return frequency; }
+    public void setFrequency(RecurrenceFrequency frequency) { this.frequency = frequency; }
+
+    public Integer getRepeatInterval() { return repeatInterval; }
+    public void setRepeatInterval(Integer repeatInterval) { this.repeatInterval = repeatInterval; }
+
+    public LocalDate getStartDate() { return startDate; }
+    public void setStartDate(LocalDate startDate) { this.startDate = startDate; }
+
+    public LocalDate getUntilDate() { return untilDate; }
+    public void setUntilDate(LocalDate untilDate) { this.untilDate = untilDate; }
+
+    public Integer getOccurrenceCount() { return occurrenceCount; }
+    public void setOccurrenceCount(Integer occurrenceCount) { this.occurrenceCount = occurrenceCount; }
+
+    public Set<LocalDate> getExceptionDates() { return exceptionDates; }
+    public void setExceptionDates(Set<LocalDate> exceptionDates) { this.exceptionDates = exceptionDates; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+}
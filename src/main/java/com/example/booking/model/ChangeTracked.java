@@ -0,0 +1,12 @@
+package com.example.booking.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * An entity whose writes are numbered for delta sync. The change number
+ * and timestamp are filled in by ChangeStampListener on insert and update.
+ */
+public interface ChangeTracked {
+
+    void stampChange(long changeSeq, LocalDateTime updatedAt);
+}
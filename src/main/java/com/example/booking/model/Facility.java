@@ -1,14 +1,17 @@
 package com.example.booking.model;
 
 import jakarta.persistence.*;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
+import com.example.booking.service.ChangeStampListener;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 
 @Entity
 @Table(name = "facilities")
-public class Facility {
+@EntityListeners(ChangeStampListener.class)
+public class Facility implements ChangeTracked {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -26,6 +29,19 @@ public class Facility {
     @Column(name = "is_available")
     private Boolean isAvailable = true;
 
+    // Optimistic lock (see Booking.version); clients may echo it back on update
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private Long version;
+
+    // Change number of the last write (see Booking.changeSeq)
+    @JsonIgnore
+    @Column(name = "change_seq")
+    private Long changeSeq;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
     @JsonIgnore // 🔁 Prevent infinite recursion
     @OneToMany(mappedBy = "facility", cascade = CascadeType.ALL)
     private List<Booking> bookings = new ArrayList<>();
@@ -57,4 +73,16 @@ public class Facility {
 
     public List<Booking> getBookings() { return bookings; }
     public void setBookings(List<Booking> bookings) { this.bookings = bookings; }
+
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+
+    public Long getChangeSeq() { return changeSeq; }
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+
+    @Override
+    public void stampChange(long changeSeq, LocalDateTime updatedAt) {
+        this.changeSeq = changeSeq;
+        this.updatedAt = updatedAt;
+    }
 }
\ No newline at end of file
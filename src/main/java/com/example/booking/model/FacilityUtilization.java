@@ -0,0 +1,70 @@
+package com.example.booking.model;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+
+import org.hibernate.annotations.Immutable;
+
+/**
+ * Minutes booked at one facility during one hour of one day, summed over
+ * all bookings that are not cancelled. Rows are only written by the native
+ * upserts in FacilityUtilizationRepository; JPA just reads them.
+ */
+@Entity
+@Immutable
+@Table(name = "facility_utilization")
+public class FacilityUtilization {
+
+    @EmbeddedId
+    private Key id;
+
+    @Column(name = "booked_minutes", nullable = false)
+    private int bookedMinutes;
+
+    @Embeddable
+    public static class Key implements Serializable {
+
+        @Column(name = "facility_id", nullable = false)
+        private Long facilityId;
+
+        @Column(nullable = false)
+        private LocalDate date;
+
+        @Column(name = "hour_of_day", nullable = false)
+        private int hourOfDay;
+
+        protected Key() {}
+
+        public Long getFacilityId() { return facilityId; }
+        public LocalDate getDate() { return date; }
+        public int getHourOfDay() { return hourOfDay; }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key other)) return false;
+            return hourOfDay == other.hourOfDay
+                    && Objects.equals(facilityId, other.facilityId)
+                    && Objects.equals(date, other.date);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(facilityId, date, hourOfDay);
+        }
+    }
+
+    // Constructors
+    protected FacilityUtilization() {}
+
+    // Getters
+    public Key getId() { return id; }
+    public int getBookedMinutes() { return bookedMinutes; }
+}
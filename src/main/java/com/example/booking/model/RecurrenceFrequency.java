@@ -0,0 +1,6 @@
+package com.example.booking.model;
+
+public enum RecurrenceFrequency {
+    DAILY,
+    WEEKLY
+}
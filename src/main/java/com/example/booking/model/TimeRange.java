@@ -0,0 +1,78 @@
+package com.example.booking.model;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Objects;
+
+/**
+ * A half-open timestamp range {@code [lower, upper)}, stored as a PostgreSQL
+ * tsrange. Two ranges overlap only if one starts strictly before the other
+ * ends, so back-to-back bookings do not conflict.
+ */
+public final class TimeRange {
+
+    private static final DateTimeFormatter FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final LocalDateTime lower;
+    private final LocalDateTime upper;
+
+    public TimeRange(LocalDateTime lower, LocalDateTime upper) {
+        this.lower = Objects.requireNonNull(lower);
+        this.upper = Objects.requireNonNull(upper);
+    }
+
+    public static TimeRange of(LocalDate date, LocalTime start, LocalTime end) {
+        return new TimeRange(date.atTime(start), date.atTime(end));
+    }
+
+    // Whole days from the start of {@code from} up to the end of {@code to}
+    public static TimeRange ofDays(LocalDate from, LocalDate to) {
+        return new TimeRange(from.atStartOfDay(), to.plusDays(1).atStartOfDay());
+    }
+
+    /**
+     * Parses the canonical text form PostgreSQL returns for a tsrange, e.g.
+     * {@code ["2025-06-01 10:00:00","2025-06-01 11:00:00")}.
+     */
+    public static TimeRange parse(String text) {
+        if (text.length() < 2 || text.charAt(0) != '[' || text.charAt(text.length() - 1) != ')') {
+            throw new IllegalArgumentException("Not a half-open range: " + text);
+        }
+        int comma = text.indexOf(',');
+        if (comma < 0) {
+            throw new IllegalArgumentException("Not a bounded range: " + text);
+        }
+        return new TimeRange(parseBound(text.substring(1, comma)),
+                parseBound(text.substring(comma + 1, text.length() - 1)));
+    }
+
+    private static LocalDateTime parseBound(String bound) {
+        String value = bound.startsWith("\"") ? bound.substring(1, bound.length() - 1) : bound;
+        return LocalDateTime.parse(value.replace(' ', 'T'));
+    }
+
+    public boolean overlaps(TimeRange other) {
+        return lower.isBefore(other.upper) && other.lower.isBefore(upper);
+    }
+
+    public LocalDateTime getLower() { return lower; }
+    public LocalDateTime getUpper() { return upper; }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof TimeRange other && lower.equals(other.lower) && upper.equals(other.upper);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(lower, upper);
+    }
+
+    // tsrange literal, as bound into SQL
+    @Override
+    public String toString() {
+        return "[" + FORMAT.format(lower) + "," + FORMAT.format(upper) + ")";
+    }
+}
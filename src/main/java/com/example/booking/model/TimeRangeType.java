@@ -0,0 +1,76 @@
+package com.example.booking.model;
+
+import java.io.Serializable;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Objects;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.usertype.UserType;
+
+/**
+ * Maps {@link TimeRange} to a PostgreSQL tsrange column. Values travel as
+ * their text literal with an unspecified type, so the server casts them to
+ * tsrange itself and no driver-specific classes are needed.
+ */
+public class TimeRangeType implements UserType<TimeRange> {
+
+    @Override
+    public int getSqlType() {
+        return Types.OTHER;
+    }
+
+    @Override
+    public Class<TimeRange> returnedClass() {
+        return TimeRange.class;
+    }
+
+    @Override
+    public boolean equals(TimeRange x, TimeRange y) {
+        return Objects.equals(x, y);
+    }
+
+    @Override
+    public int hashCode(TimeRange x) {
+        return Objects.hashCode(x);
+    }
+
+    @Override
+    public TimeRange nullSafeGet(ResultSet rs, int position, SharedSessionContractImplementor session,
+            Object owner) throws SQLException {
+        String value = rs.getString(position);
+        return value == null || value.equals("empty") ? null : TimeRange.parse(value);
+    }
+
+    @Override
+    public void nullSafeSet(PreparedStatement st, TimeRange value, int index,
+            SharedSessionContractImplementor session) throws SQLException {
+        if (value == null) {
+            st.setNull(index, Types.OTHER);
+        } else {
+            st.setObject(index, value.toString(), Types.OTHER);
+        }
+    }
+
+    @Override
+    public TimeRange deepCopy(TimeRange value) {
+        return value; // immutable
+    }
+
+    @Override
+    public boolean isMutable() {
+        return false;
+    }
+
+    @Override
+    public Serializable disassemble(TimeRange value) {
+        return value == null ? null : value.toString();
+    }
+
+    @Override
+    public TimeRange assemble(Serializable cached, Object owner) {
+        return cached == null ? null : TimeRange.parse((String) cached);
+    }
+}
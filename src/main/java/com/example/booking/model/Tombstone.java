@@ -0,0 +1,63 @@
+package com.example.booking.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+
+/**
+ * Marks a booking or facility that was deleted, so delta sync clients can
+ * drop it. Tombstone ids are drawn from change_seq as well, which also
+ * lets schema update create that sequence.
+ */
+@Entity
+@Table(name = "tombstones")
+public class Tombstone {
+
+    public enum Kind {
+        BOOKING,
+        FACILITY
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "change_seq")
+    @SequenceGenerator(name = "change_seq", sequenceName = "change_seq", allocationSize = 1)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Kind kind;
+
+    @Column(name = "entity_id", nullable = false)
+    private Long entityId;
+
+    @Column(name = "change_seq", nullable = false)
+    private Long changeSeq;
+
+    @Column(name = "deleted_at", nullable = false)
+    private LocalDateTime deletedAt;
+
+    // Constructors
+    public Tombstone() {}
+
+    public Tombstone(Kind kind, Long entityId, Long changeSeq) {
+        this.kind = kind;
+        this.entityId = entityId;
+        this.changeSeq = changeSeq;
+        this.deletedAt = LocalDateTime.now();
+    }
+
+    // Getters
+    public Long getId() { return id; }
+    public Kind getKind() { return kind; }
+    public Long getEntityId() { return entityId; }
+    public Long getChangeSeq() { return changeSeq; }
+    public LocalDateTime getDeletedAt() { return deletedAt; }
+}
@@ -0,0 +1,80 @@
+package com.example.booking.repository;
+
+import com.example.booking.dto.BookingResponse;
+import com.example.booking.model.ArchivedBooking;
+import com.example.booking.model.BookingStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Read side of bookings_archive. The list queries mirror the ones in
+ * BookingRepository (same alias, same filter) so results from both tables
+ * can be merged in (date, id) order.
+ */
+@Repository
+public interface ArchivedBookingRepository extends JpaRepository<ArchivedBooking, Long> {
+
+    String RESPONSE_SELECT = "SELECT new com.example.booking.dto.BookingResponse(" +
+           "b.id, u.id, u.email, u.name, f.id, f.name, b.date, b.startTime, b.endTime, " +
+           "b.status, b.purpose, b.seriesId, b.createdAt) " +
+           "FROM ArchivedBooking b JOIN b.user u JOIN b.facility f ";
+
+    @Query(RESPONSE_SELECT + "WHERE b.id = :id")
+    Optional<BookingResponse> findResponseById(@Param("id") Long id);
+
+    @Query(RESPONSE_SELECT + "WHERE u.id = :userId ORDER BY b.date, b.startTime")
+    List<BookingResponse> findResponsesByUserId(@Param("userId") Long userId);
+
+    @Query(RESPONSE_SELECT + "WHERE f.id = :facilityId ORDER BY b.date, b.startTime")
+    List<BookingResponse> findResponsesByFacilityId(@Param("facilityId") Long facilityId);
+
+    @Query(RESPONSE_SELECT + "WHERE " + BookingRepository.LIST_FILTER +
+           "AND (CAST(:afterDate AS LocalDate) IS NULL OR b.date > :afterDate " +
+           "OR (b.date = :afterDate AND b.id > :afterId)) " +
+           "ORDER BY b.date, b.id")
+    List<BookingResponse> findPageAfter(
+            @Param("status") BookingStatus status,
+            @Param("facilityId") Long facilityId,
+            @Param("userId") Long userId,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to,
+            @Param("afterDate") LocalDate afterDate,
+            @Param("afterId") Long afterId,
+            Pageable pageable);
+
+    // Must be consumed inside a transaction and closed by the caller
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "200"))
+    @Query(RESPONSE_SELECT + "WHERE " + BookingRepository.LIST_FILTER + "ORDER BY b.date, b.id")
+    Stream<BookingResponse> streamFiltered(
+            @Param("status") BookingStatus status,
+            @Param("facilityId") Long facilityId,
+            @Param("userId") Long userId,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to);
+
+    // Moves up to :limit finished bookings dated before :cutoff from bookings
+    // into the archive in one statement. CONFIRMED rows stay until they have
+    // been marked COMPLETED; rows locked by a concurrent writer are skipped.
+    @Modifying
+    @Query(value = "WITH moved AS (" +
+           "DELETE FROM bookings WHERE id IN (" +
+           "SELECT id FROM bookings WHERE date < :cutoff AND status <> 'CONFIRMED' " +
+           "ORDER BY date, id LIMIT :limit FOR UPDATE SKIP LOCKED) " +
+           "RETURNING id, facility_id, user_id, date, start_time, end_time, status, purpose, " +
+           "series_id, version, change_seq, created_at, updated_at) " +
+           "INSERT INTO bookings_archive (id, facility_id, user_id, date, start_time, end_time, " +
+           "status, purpose, series_id, version, change_seq, created_at, updated_at) " +
+           "SELECT * FROM moved", nativeQuery = true)
+    int archiveFinishedBefore(@Param("cutoff") LocalDate cutoff, @Param("limit") int limit);
+}
@@ -1,19 +1,54 @@
 package com.example.booking.repository;
 
+import com.example.booking.dto.BookingResponse;
 import com.example.booking.model.Booking;
 import com.example.booking.model.BookingStatus;
+import com.example.booking.model.TimeRange;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface BookingRepository extends JpaRepository<Booking, Long> {
+
+    // Loads BookingResponse rows with their user and facility names in one statement
+    String RESPONSE_SELECT = "SELECT new com.example.booking.dto.BookingResponse(" +
+           "b.id, u.id, u.email, u.name, f.id, f.name, b.date, b.startTime, b.endTime, " +
+           "b.status, b.purpose, b.series.id, b.createdAt) " +
+           "FROM Booking b JOIN b.user u JOIN b.facility f ";
+
+    // Optional filters shared by the paged and streaming list queries. The
+    // driver sends dates untyped, so "? IS NULL" needs the cast to plan
+    String LIST_FILTER = "(:status IS NULL OR b.status = :status) " +
+           "AND (:facilityId IS NULL OR b.facility.id = :facilityId) " +
+           "AND (:userId IS NULL OR b.user.id = :userId) " +
+           "AND (CAST(:from AS LocalDate) IS NULL OR b.date >= :from) " +
+           "AND (CAST(:to AS LocalDate) IS NULL OR b.date <= :to) ";
+
     List<Booking> findByUserId(Long userId);
     List<Booking> findByFacilityId(Long facilityId);
+    
+    @Query(RESPONSE_SELECT + "WHERE b.id = :id")
+    Optional<BookingResponse> findResponseById(@Param("id") Long id);
+    
+    @Query(RESPONSE_SELECT + "WHERE u.id = :userId ORDER BY b.date, b.startTime")
+    List<BookingResponse> findResponsesByUserId(@Param("userId") Long userId);
+    
+    @Query(RESPONSE_SELECT + "WHERE f.id = :facilityId ORDER BY b.date, b.startTime")
+    List<BookingResponse> findResponsesByFacilityId(@Param("facilityId") Long facilityId);
     List<Booking> findByStatus(BookingStatus status);
     
     @Query("SELECT b FROM Booking b WHERE b.facility.id = :facilityId " +
@@ -22,13 +57,147 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
             @Param("facilityId") Long facilityId, 
             @Param("date") LocalDate date);
     
+    // Half-open overlap (slot && :range), answered by the GiST index behind
+    // no_overlapping_bookings; a non-null excludeBookingId ignores that booking
     @Query("SELECT CASE WHEN COUNT(b) > 0 THEN true ELSE false END FROM Booking b " +
-           "WHERE b.facility.id = :facilityId AND b.date = :date " +
-           "AND b.status != 'CANCELLED' " +
-           "AND ((b.startTime <= :endTime AND b.endTime >= :startTime))")
+           "WHERE b.facility.id = :facilityId AND b.status != 'CANCELLED' " +
+           "AND ranges_overlap(b.slot, :range) " +
+           "AND (:excludeBookingId IS NULL OR b.id != :excludeBookingId)")
     boolean existsConflictingBooking(
             @Param("facilityId") Long facilityId,
-            @Param("date") LocalDate date,
+            @Param("range") TimeRange range,
+            @Param("excludeBookingId") Long excludeBookingId);
+    
+    @Query("SELECT b.id AS id, b.facility.id AS facilityId, b.date AS date, " +
+           "b.startTime AS startTime, b.endTime AS endTime FROM Booking b " +
+           "WHERE b.date >= :from AND b.status != 'CANCELLED'")
+    List<BookingSlot> findActiveSlotsFrom(@Param("from") LocalDate from);
+    
+    // Keyset page ordered by (date, id); pass a null afterDate for the first page
+    @Query(RESPONSE_SELECT + "WHERE " + LIST_FILTER +
+           "AND (CAST(:afterDate AS LocalDate) IS NULL OR b.date > :afterDate " +
+           "OR (b.date = :afterDate AND b.id > :afterId)) " +
+           "ORDER BY b.date, b.id")
+    List<BookingResponse> findPageAfter(
+            @Param("status") BookingStatus status,
+            @Param("facilityId") Long facilityId,
+            @Param("userId") Long userId,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to,
+            @Param("afterDate") LocalDate afterDate,
+            @Param("afterId") Long afterId,
+            Pageable pageable);
+    
+    // Must be consumed inside a transaction and closed by the caller
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "200"))
+    @Query(RESPONSE_SELECT + "WHERE " + LIST_FILTER + "ORDER BY b.date, b.id")
+    Stream<BookingResponse> streamFiltered(
+            @Param("status") BookingStatus status,
+            @Param("facilityId") Long facilityId,
+            @Param("userId") Long userId,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to);
+    
+    @Query(RESPONSE_SELECT + "WHERE b.series.id = :seriesId ORDER BY b.date")
+    List<BookingResponse> findResponsesBySeriesId(@Param("seriesId") Long seriesId);
+    
+    // Set-based conflict check for many dates at once, half-open like
+    // existsConflictingBooking; one time range over many dates is an
+    // index-only scan of idx_bookings_active_facility_date
+    @Query("SELECT DISTINCT b.date FROM Booking b " +
+           "WHERE b.facility.id = :facilityId AND b.date IN :dates " +
+           "AND b.status != 'CANCELLED' " +
+           "AND b.startTime < :endTime AND b.endTime > :startTime")
+    List<LocalDate> findConflictingDates(
+            @Param("facilityId") Long facilityId,
+            @Param("dates") Collection<LocalDate> dates,
             @Param("startTime") LocalTime startTime,
             @Param("endTime") LocalTime endTime);
+    
+    // Dates on which a booking outside the series genuinely overlaps the range
+    @Query("SELECT DISTINCT b.date FROM Booking b " +
+           "WHERE b.facility.id = :facilityId AND b.date IN :dates " +
+           "AND b.status != 'CANCELLED' " +
+           "AND (b.series IS NULL OR b.series.id != :seriesId) " +
+           "AND b.startTime < :endTime AND b.endTime > :startTime")
+    List<LocalDate> findOverlappingDatesOutsideSeries(
+            @Param("facilityId") Long facilityId,
+            @Param("dates") Collection<LocalDate> dates,
+            @Param("startTime") LocalTime startTime,
+            @Param("endTime") LocalTime endTime,
+            @Param("seriesId") Long seriesId);
+    
+    @Query("SELECT b.id AS id, b.facility.id AS facilityId, b.date AS date, " +
+           "b.startTime AS startTime, b.endTime AS endTime FROM Booking b " +
+           "WHERE b.series.id = :seriesId AND b.date >= :from AND b.status != 'CANCELLED'")
+    List<BookingSlot> findActiveSlotsBySeriesFrom(
+            @Param("seriesId") Long seriesId,
+            @Param("from") LocalDate from);
+    
+    // Bulk updates bypass @Version and entity listeners, so they bump the
+    // version and stamp the change number themselves
+    @Modifying
+    @Query("UPDATE Booking b SET b.status = com.example.booking.model.BookingStatus.CANCELLED, " +
+           "b.version = b.version + 1, b.changeSeq = :changeSeq, b.updatedAt = :now " +
+           "WHERE b.series.id = :seriesId AND b.date >= :from AND b.status != 'CANCELLED'")
+    int cancelSeriesFrom(
+            @Param("seriesId") Long seriesId,
+            @Param("from") LocalDate from,
+            @Param("changeSeq") long changeSeq,
+            @Param("now") LocalDateTime now);
+    
+    @Modifying
+    @Query("UPDATE Booking b SET b.startTime = :startTime, b.endTime = :endTime, b.purpose = :purpose, " +
+           "b.version = b.version + 1, b.changeSeq = :changeSeq, b.updatedAt = :now " +
+           "WHERE b.series.id = :seriesId AND b.date >= :from AND b.status != 'CANCELLED'")
+    int rescheduleSeriesFrom(
+            @Param("seriesId") Long seriesId,
+            @Param("from") LocalDate from,
+            @Param("startTime") LocalTime startTime,
+            @Param("endTime") LocalTime endTime,
+            @Param("purpose") String purpose,
+            @Param("changeSeq") long changeSeq,
+            @Param("now") LocalDateTime now);
+    
+    // CONFIRMED bookings whose end time has passed (idx_bookings_confirmed_date)
+    @Query("SELECT b.id FROM Booking b WHERE b.status = com.example.booking.model.BookingStatus.CONFIRMED " +
+           "AND b.date <= :today AND (b.date < :today OR b.endTime <= :now) ORDER BY b.date, b.endTime")
+    List<Long> findFinishedConfirmedIds(
+            @Param("today") LocalDate today,
+            @Param("now") LocalTime now,
+            Pageable pageable);
+    
+    @Modifying
+    @Query("UPDATE Booking b SET b.status = com.example.booking.model.BookingStatus.COMPLETED, " +
+           "b.version = b.version + 1, b.changeSeq = :changeSeq, b.updatedAt = :now " +
+           "WHERE b.id IN :ids AND b.status = com.example.booking.model.BookingStatus.CONFIRMED")
+    int markCompleted(
+            @Param("ids") Collection<Long> ids,
+            @Param("changeSeq") long changeSeq,
+            @Param("now") LocalDateTime now);
+    
+    // Rows last written by a transaction numbered in (since, upTo], for delta sync
+    @Query(RESPONSE_SELECT + "WHERE b.changeSeq > :since AND b.changeSeq <= :upTo ORDER BY b.changeSeq, b.id")
+    List<BookingResponse> findResponsesChangedBetween(
+            @Param("since") long since,
+            @Param("upTo") long upTo,
+            Pageable pageable);
+    
+    @Query("SELECT b.id AS id, b.facility.id AS facilityId, b.date AS date, " +
+           "b.startTime AS startTime, b.endTime AS endTime FROM Booking b " +
+           "WHERE b.facility.id IN :facilityIds AND b.date BETWEEN :from AND :to " +
+           "AND b.status != 'CANCELLED'")
+    List<BookingSlot> findActiveSlotsBetween(
+            @Param("facilityIds") Collection<Long> facilityIds,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to);
+    
+    // Exact days rather than a range, for the batch availability check
+    @Query("SELECT b.id AS id, b.facility.id AS facilityId, b.date AS date, " +
+           "b.startTime AS startTime, b.endTime AS endTime FROM Booking b " +
+           "WHERE b.facility.id IN :facilityIds AND b.date IN :dates " +
+           "AND b.status != 'CANCELLED'")
+    List<BookingSlot> findActiveSlotsOn(
+            @Param("facilityIds") Collection<Long> facilityIds,
+            @Param("dates") Collection<LocalDate> dates);
 }
\ No newline at end of file
@@ -0,0 +1,17 @@
+package com.example.booking.repository;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * Lightweight projection of a booking's facility and time range, used where
+ * only the occupied slot matters and loading the full entity (with its user
+ * and facility) would be wasteful.
+ */
+public interface BookingSlot {
+    Long getId();
+    Long getFacilityId();
+    LocalDate getDate();
+    LocalTime getStartTime();
+    LocalTime getEndTime();
+}
@@ -13,4 +13,10 @@ public interface FacilityRepository extends JpaRepository<Facility, Long> {
     
     @Query("SELECT f FROM Facility f WHERE f.capacity >= :minCapacity")
     List<Facility> findByMinCapacity(@Param("minCapacity") Integer minCapacity);
+    
+    @Query("SELECT f FROM Facility f WHERE f.changeSeq > :since AND f.changeSeq <= :upTo")
+    List<Facility> findChangedBetween(@Param("since") long since, @Param("upTo") long upTo);
+    
+    @Query("SELECT f.id FROM Facility f ORDER BY f.id")
+    List<Long> findAllIds();
 }
\ No newline at end of file
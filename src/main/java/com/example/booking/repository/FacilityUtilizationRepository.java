@@ -0,0 +1,69 @@
+package com.example.booking.repository;
+
+import com.example.booking.model.FacilityUtilization;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * The facility_utilization rollup. Writes add the current slots of the
+ * given bookings, split into hours, to the rows they fall in; reads sum a
+ * facility's rows over a date range, by day or by hour of day.
+ */
+@Repository
+public interface FacilityUtilizationRepository extends JpaRepository<FacilityUtilization, FacilityUtilization.Key> {
+
+    interface DayTotal {
+        LocalDate getDate();
+        long getBookedMinutes();
+    }
+
+    interface HourTotal {
+        int getHourOfDay();
+        long getBookedMinutes();
+    }
+
+    /**
+     * Adds sign times the booked minutes of the given bookings, as currently
+     * stored and unless cancelled, to the rollup. Rows are upserted in key
+     * order so concurrent writers lock them in the same order.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO facility_utilization (facility_id, date, hour_of_day, booked_minutes) " +
+           "SELECT b.facility_id, b.date, h.hour_of_day, :sign * SUM(" +
+           "  LEAST(b.end_minute, (h.hour_of_day + 1) * 60) - GREATEST(b.start_minute, h.hour_of_day * 60)) " +
+           "FROM (SELECT facility_id, date, " +
+           "        CAST(EXTRACT(EPOCH FROM start_time) AS INTEGER) / 60 AS start_minute, " +
+           "        CAST(EXTRACT(EPOCH FROM end_time) AS INTEGER) / 60 AS end_minute " +
+           "      FROM bookings WHERE id IN (:ids) AND status <> 'CANCELLED') b " +
+           "CROSS JOIN LATERAL generate_series(b.start_minute / 60, (b.end_minute - 1) / 60) AS h(hour_of_day) " +
+           "WHERE b.end_minute > b.start_minute " +
+           "GROUP BY b.facility_id, b.date, h.hour_of_day " +
+           "ORDER BY b.facility_id, b.date, h.hour_of_day " +
+           "ON CONFLICT (facility_id, date, hour_of_day) " +
+           "DO UPDATE SET booked_minutes = facility_utilization.booked_minutes + EXCLUDED.booked_minutes",
+           nativeQuery = true)
+    int addBookings(@Param("ids") Collection<Long> ids, @Param("sign") int sign);
+
+    @Query("SELECT u.id.date AS date, SUM(u.bookedMinutes) AS bookedMinutes FROM FacilityUtilization u " +
+           "WHERE u.id.facilityId = :facilityId AND u.id.date BETWEEN :from AND :to " +
+           "GROUP BY u.id.date ORDER BY u.id.date")
+    List<DayTotal> sumByDay(
+            @Param("facilityId") Long facilityId,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to);
+
+    @Query("SELECT u.id.hourOfDay AS hourOfDay, SUM(u.bookedMinutes) AS bookedMinutes FROM FacilityUtilization u " +
+           "WHERE u.id.facilityId = :facilityId AND u.id.date BETWEEN :from AND :to " +
+           "GROUP BY u.id.hourOfDay ORDER BY u.id.hourOfDay")
+    List<HourTotal> sumByHourOfDay(
+            @Param("facilityId") Long facilityId,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to);
+}
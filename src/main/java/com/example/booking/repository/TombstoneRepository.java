@@ -0,0 +1,15 @@
+package com.example.booking.repository;
+
+import com.example.booking.model.Tombstone;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.util.List;
+
+@Repository
+public interface TombstoneRepository extends JpaRepository<Tombstone, Long> {
+
+    @Query("SELECT t FROM Tombstone t WHERE t.changeSeq > :since AND t.changeSeq <= :upTo")
+    List<Tombstone> findChangedBetween(@Param("since") long since, @Param("upTo") long upTo);
+}
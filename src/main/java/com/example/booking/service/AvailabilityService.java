@@ -0,0 +1,274 @@
+package com.example.booking.service;
+
+import com.example.booking.dto.AvailabilityCheckResult;
+import com.example.booking.dto.AvailabilityGrid;
+import com.example.booking.dto.BatchAvailabilityRequest;
+import com.example.booking.dto.FreeSlotResult;
+import com.example.booking.model.Facility;
+import com.example.booking.repository.BookingRepository;
+import com.example.booking.repository.BookingSlot;
+import com.example.booking.repository.FacilityRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+public class AvailabilityService {
+
+    // Same grid the frontend draws: 24 half-hour slots from 08:00 to 20:00
+    public static final LocalTime DAY_START = LocalTime.of(8, 0);
+    public static final int SLOT_MINUTES = 30;
+    public static final int SLOTS_PER_DAY = 24;
+    public static final int MAX_DAYS = 62;
+    public static final LocalTime DAY_END = LocalTime.of(20, 0);
+
+    private final BookingRepository bookingRepository;
+    private final FacilityRepository facilityRepository;
+    private final BookingChangeTracker changeTracker;
+
+    public AvailabilityService(BookingRepository bookingRepository,
+            FacilityRepository facilityRepository,
+            BookingChangeTracker changeTracker) {
+        this.bookingRepository = bookingRepository;
+        this.facilityRepository = facilityRepository;
+        this.changeTracker = changeTracker;
+    }
+
+    public Instant getLastModified() {
+        return changeTracker.getLastModified();
+    }
+
+    /**
+     * Builds the occupancy grid for the given facilities (all facilities when
+     * none are given) from a single range query over active bookings.
+     */
+    @ReplicaRead
+    @Transactional(readOnly = true)
+    public AvailabilityGrid getAvailabilityGrid(LocalDate from, LocalDate to, List<Long> facilityIds) {
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("'to' must not be before 'from'");
+        }
+        int dayCount = (int) ChronoUnit.DAYS.between(from, to) + 1;
+        if (dayCount > MAX_DAYS) {
+            throw new IllegalArgumentException("Date range cannot exceed " + MAX_DAYS + " days");
+        }
+
+        // Not the cached facility list: this may run on the replica, whose rows must not be cached
+        List<Long> ids = facilityIds == null || facilityIds.isEmpty()
+                ? facilityRepository.findAllIds()
+                : facilityIds.stream().distinct().sorted().toList();
+
+        Map<Long, int[]> days = new LinkedHashMap<>();
+        for (Long id : ids) {
+            days.put(id, new int[dayCount]);
+        }
+        if (!ids.isEmpty()) {
+            for (BookingSlot slot : bookingRepository.findActiveSlotsBetween(ids, from, to)) {
+                int[] occupancy = days.get(slot.getFacilityId());
+                int offset = (int) ChronoUnit.DAYS.between(from, slot.getDate());
+                occupancy[offset] |= slotMask(slot.getStartTime(), slot.getEndTime());
+            }
+        }
+
+        List<AvailabilityGrid.FacilityOccupancy> facilities = new ArrayList<>(days.size());
+        days.forEach((id, occupancy) -> facilities.add(new AvailabilityGrid.FacilityOccupancy(id, occupancy)));
+
+        AvailabilityGrid grid = new AvailabilityGrid();
+        grid.setFrom(from);
+        grid.setTo(to);
+        grid.setDayStart(DAY_START);
+        grid.setSlotMinutes(SLOT_MINUTES);
+        grid.setSlotsPerDay(SLOTS_PER_DAY);
+        grid.setFacilities(facilities);
+        return grid;
+    }
+
+    /**
+     * Finds every available facility with at least {@code minCapacity} seats
+     * that has a free gap of {@code durationMinutes} inside the window on the
+     * given date. Candidates come from findByMinCapacity, their bookings from
+     * one range query, and the gaps are computed in memory. Results are
+     * ordered by earliest fit, then by smallest room.
+     *
+     * Intervals are half-open, like the no_overlapping_bookings constraint,
+     * so a gap may start exactly when the previous booking ends.
+     */
+    @ReplicaRead
+    @Transactional(readOnly = true)
+    public List<FreeSlotResult> findFreeSlots(Integer minCapacity, LocalDate date,
+            LocalTime windowStart, LocalTime windowEnd, int durationMinutes) {
+        if (durationMinutes <= 0) {
+            throw new IllegalArgumentException("Duration must be positive");
+        }
+        LocalTime from = windowStart == null ? DAY_START : windowStart;
+        LocalTime to = windowEnd == null ? DAY_END : windowEnd;
+        if (date.equals(LocalDate.now())) {
+            // Round the current time up to the next whole minute
+            LocalTime now = LocalTime.now().withSecond(0).withNano(0).plusMinutes(1);
+            if (now.isAfter(from)) {
+                from = now;
+            }
+        }
+        if (!to.isAfter(from)) {
+            return List.of();
+        }
+
+        List<Facility> candidates = facilityRepository.findByMinCapacity(minCapacity == null ? 1 : minCapacity)
+                .stream()
+                .filter(f -> Boolean.TRUE.equals(f.getIsAvailable()))
+                .toList();
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, List<BookingSlot>> byFacility = bookingRepository
+                .findActiveSlotsBetween(candidates.stream().map(Facility::getId).toList(), date, date)
+                .stream()
+                .collect(Collectors.groupingBy(BookingSlot::getFacilityId));
+
+        int duration = durationMinutes * 60;
+        int windowFrom = from.toSecondOfDay();
+        int windowTo = to.toSecondOfDay();
+        List<FreeSlotResult> results = new ArrayList<>();
+        for (Facility facility : candidates) {
+            List<BookingSlot> booked = new ArrayList<>(byFacility.getOrDefault(facility.getId(), List.of()));
+            booked.sort(Comparator.comparing(BookingSlot::getStartTime));
+
+            // Sweep the day's bookings, tracking where the current free gap begins
+            int gapStart = windowFrom;
+            int gapEnd = windowTo;
+            boolean found = false;
+            for (BookingSlot slot : booked) {
+                int start = slot.getStartTime().toSecondOfDay();
+                int end = slot.getEndTime().toSecondOfDay();
+                if (end <= gapStart) {
+                    continue;
+                }
+                if (Math.min(start, windowTo) - gapStart >= duration) {
+                    gapEnd = Math.min(start, windowTo);
+                    found = true;
+                    break;
+                }
+                gapStart = Math.max(gapStart, end);
+                if (gapStart >= windowTo) {
+                    break;
+                }
+            }
+            if (!found && windowTo - gapStart >= duration) {
+                gapEnd = windowTo;
+                found = true;
+            }
+            if (found) {
+                FreeSlotResult result = new FreeSlotResult();
+                result.setFacilityId(facility.getId());
+                result.setFacilityName(facility.getName());
+                result.setLocation(facility.getLocation());
+                result.setCapacity(facility.getCapacity());
+                result.setEarliestStart(LocalTime.ofSecondOfDay(gapStart));
+                result.setEarliestEnd(LocalTime.ofSecondOfDay(gapStart + duration));
+                result.setGapStart(LocalTime.ofSecondOfDay(gapStart));
+                result.setGapEnd(LocalTime.ofSecondOfDay(gapEnd));
+                results.add(result);
+            }
+        }
+
+        results.sort(Comparator.comparing(FreeSlotResult::getEarliestStart)
+                .thenComparing(FreeSlotResult::getCapacity)
+                .thenComparing(FreeSlotResult::getFacilityId));
+        return results;
+    }
+
+    /**
+     * Answers many slot checks in one go. The active bookings of every
+     * requested facility on every requested date come from one query; then
+     * each facility-day's bookings and requested slots are swept together
+     * in start order. Active bookings of a facility never overlap
+     * (no_overlapping_bookings), so sorted by start they are sorted by end
+     * as well, and the first booking a slot can overlap only moves forward.
+     * Results are in request order.
+     */
+    @ReplicaRead
+    @Transactional(readOnly = true)
+    public List<AvailabilityCheckResult> checkSlots(List<BatchAvailabilityRequest.Slot> slots) {
+        Set<Long> facilityIds = new HashSet<>();
+        Set<LocalDate> dates = new HashSet<>();
+        Map<FacilityDay, List<Integer>> requested = new HashMap<>();
+        for (int i = 0; i < slots.size(); i++) {
+            BatchAvailabilityRequest.Slot slot = slots.get(i);
+            facilityIds.add(slot.getFacilityId());
+            dates.add(slot.getDate());
+            requested.computeIfAbsent(new FacilityDay(slot.getFacilityId(), slot.getDate()),
+                    k -> new ArrayList<>()).add(i);
+        }
+        Map<FacilityDay, List<BookingSlot>> booked = bookingRepository.findActiveSlotsOn(facilityIds, dates)
+                .stream()
+                .collect(Collectors.groupingBy(b -> new FacilityDay(b.getFacilityId(), b.getDate())));
+
+        AvailabilityCheckResult[] results = new AvailabilityCheckResult[slots.size()];
+        requested.forEach((day, indexes) -> {
+            List<BookingSlot> bookings = new ArrayList<>(booked.getOrDefault(day, List.of()));
+            bookings.sort(Comparator.comparing(BookingSlot::getStartTime));
+            indexes.sort(Comparator.comparing(i -> slots.get(i).getStartTime()));
+            int first = 0;
+            for (int i : indexes) {
+                BatchAvailabilityRequest.Slot slot = slots.get(i);
+                // Half-open ranges: a booking ending at the slot's start does not overlap it
+                while (first < bookings.size() && !bookings.get(first).getEndTime().isAfter(slot.getStartTime())) {
+                    first++;
+                }
+                List<Long> conflicts = new ArrayList<>();
+                for (int j = first; j < bookings.size() && bookings.get(j).getStartTime().isBefore(slot.getEndTime()); j++) {
+                    conflicts.add(bookings.get(j).getId());
+                }
+                results[i] = new AvailabilityCheckResult(slot, conflicts);
+            }
+        });
+        return Arrays.asList(results);
+    }
+
+    private record FacilityDay(Long facilityId, LocalDate date) {}
+
+    /**
+     * Weak ETag derived from the grid contents, so an unchanged grid gets the
+     * same tag no matter which instance computed it.
+     */
+    public String etagOf(AvailabilityGrid grid) {
+        long hash = grid.getFrom().toEpochDay() * 31 + grid.getTo().toEpochDay();
+        for (AvailabilityGrid.FacilityOccupancy facility : grid.getFacilities()) {
+            hash = hash * 31 + facility.getFacilityId();
+            for (int day : facility.getDays()) {
+                hash = hash * 31 + day;
+            }
+        }
+        return "W/\"" + Long.toHexString(hash) + "\"";
+    }
+
+    /**
+     * Bit i is set when [start, end) overlaps slot i.
+     */
+    static int slotMask(LocalTime start, LocalTime end) {
+        int slotSeconds = SLOT_MINUTES * 60;
+        int dayStart = DAY_START.toSecondOfDay();
+        int first = Math.max(0, (start.toSecondOfDay() - dayStart) / slotSeconds);
+        int last = Math.min(SLOTS_PER_DAY,
+                (end.toSecondOfDay() - dayStart + slotSeconds - 1) / slotSeconds);
+        if (end.toSecondOfDay() <= dayStart || first >= last) {
+            return 0;
+        }
+        return (int) (((1L << last) - 1) & ~((1L << first) - 1));
+    }
+}
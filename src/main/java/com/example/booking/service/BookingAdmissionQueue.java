@@ -0,0 +1,255 @@
+package com.example.booking.service;
+
+import com.example.booking.dto.BatchBookingRequest;
+import com.example.booking.dto.BatchBookingResponse;
+import com.example.booking.dto.BatchItemResult;
+import com.example.booking.dto.BookingRequest;
+import com.example.booking.dto.BookingResponse;
+import com.example.booking.dto.BookingTicket;
+import com.example.booking.exception.BookingConflictException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Optional queued admission for new bookings (booking.admission.queued).
+ *
+ * Requests are partitioned by facility id into bounded in-process queues.
+ * Each queue is drained by a single writer thread that takes up to
+ * {@code max-batch} waiting requests at a time and books them through
+ * {@link BookingService#createBookings} in PARTIAL mode, so conflicts within
+ * the batch are decided sequentially in memory and the accepted rows are
+ * committed together. Under a rush for one room this replaces hundreds of
+ * transactions competing for the same rows with a few small batches.
+ *
+ * Every request gets a ticket; callers either wait for the result or poll
+ * the ticket. Tickets are kept for a while after completion.
+ */
+@Component
+public class BookingAdmissionQueue {
+
+    private static final Duration TICKET_RETENTION = Duration.ofMinutes(10);
+
+    private final BookingService bookingService;
+    private final boolean enabled;
+    private final int maxBatch;
+    private final long waitMillis;
+    private final List<BlockingQueue<Entry>> partitions = new ArrayList<>();
+    private final List<Thread> writers = new ArrayList<>();
+    private final Cache<String, Entry> tickets = Caffeine.newBuilder()
+            .expireAfterWrite(TICKET_RETENTION)
+            .maximumSize(100_000)
+            .build();
+
+    public BookingAdmissionQueue(BookingService bookingService,
+            @Value("${booking.admission.queued:false}") boolean enabled,
+            @Value("${booking.admission.partitions:8}") int partitionCount,
+            @Value("${booking.admission.queue-capacity:1000}") int queueCapacity,
+            @Value("${booking.admission.max-batch:50}") int maxBatch,
+            @Value("${booking.admission.wait-ms:5000}") long waitMillis) {
+        this.bookingService = bookingService;
+        this.enabled = enabled;
+        this.maxBatch = maxBatch;
+        this.waitMillis = waitMillis;
+        for (int i = 0; i < partitionCount; i++) {
+            partitions.add(new ArrayBlockingQueue<>(queueCapacity));
+        }
+    }
+
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        for (int i = 0; i < partitions.size(); i++) {
+            BlockingQueue<Entry> queue = partitions.get(i);
+            Thread writer = new Thread(() -> drain(queue), "booking-writer-" + i);
+            writer.setDaemon(true);
+            writer.start();
+            writers.add(writer);
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        writers.forEach(Thread::interrupt);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Queues a booking request and returns its (pending) ticket. Throws
+     * RejectedExecutionException when the facility's queue is full.
+     */
+    public BookingTicket submit(BookingRequest request) {
+        if (!enabled) {
+            throw new IllegalStateException("Queued admission is not enabled");
+        }
+        Entry entry = new Entry(UUID.randomUUID().toString(), request);
+        int partition = Math.floorMod(request.getFacilityId().hashCode(), partitions.size());
+        if (!partitions.get(partition).offer(entry)) {
+            throw new RejectedExecutionException("Booking queue is full");
+        }
+        tickets.put(entry.id, entry);
+        return entry.toTicket();
+    }
+
+    /**
+     * Waits up to booking.admission.wait-ms for the request to be decided
+     * and returns the ticket, which is still PENDING if time ran out.
+     */
+    public BookingTicket await(String ticketId) {
+        Entry entry = find(ticketId);
+        try {
+            entry.outcome.get(waitMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException | ExecutionException e) {
+            // Reported through the ticket state
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return entry.toTicket();
+    }
+
+    public BookingTicket getTicket(String ticketId) {
+        return find(ticketId).toTicket();
+    }
+
+    /**
+     * Turns a completed ticket into what the direct path would have returned
+     * or thrown, so queued callers see the same responses.
+     */
+    public BookingResponse unwrap(BookingTicket ticket) {
+        if (ticket.getState() == BookingTicket.State.FAILED) {
+            Throwable failure = find(ticket.getId()).failure();
+            throw failure instanceof RuntimeException e ? e : new IllegalStateException(failure);
+        }
+        BatchItemResult result = ticket.getResult();
+        switch (result.getStatus()) {
+            case CREATED:
+                return result.getBooking();
+            case CONFLICT:
+                throw new BookingConflictException(result.getMessage());
+            case NOT_FOUND:
+                throw new EntityNotFoundException(result.getMessage());
+            case UNAVAILABLE:
+                throw new IllegalStateException(result.getMessage());
+            default:
+                throw new IllegalArgumentException(result.getMessage());
+        }
+    }
+
+    private Entry find(String ticketId) {
+        Entry entry = tickets.getIfPresent(ticketId);
+        if (entry == null) {
+            throw new EntityNotFoundException("Booking ticket not found: " + ticketId);
+        }
+        return entry;
+    }
+
+    private void drain(BlockingQueue<Entry> queue) {
+        List<Entry> batch = new ArrayList<>(maxBatch);
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                return;
+            }
+            queue.drainTo(batch, maxBatch - 1);
+            try {
+                process(batch);
+            } catch (Throwable failure) {
+                // Anything else, even an Error, fails this batch only; the
+                // writer keeps serving its partition
+                batch.forEach(entry -> entry.outcome.completeExceptionally(failure));
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void process(List<Entry> batch) {
+        List<BookingRequest> requests = batch.stream().map(e -> e.request).toList();
+        try {
+            BatchBookingResponse response = bookingService.createBookings(
+                    new BatchBookingRequest(BatchBookingRequest.Mode.PARTIAL, requests));
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).outcome.complete(response.getResults().get(i));
+            }
+        } catch (RuntimeException batchFailure) {
+            // One row failing at commit (e.g. a booking made by another
+            // instance) rolls back the whole batch; settle each one on its own
+            batch.forEach(this::processAlone);
+        }
+    }
+
+    private void processAlone(Entry entry) {
+        BatchItemResult result;
+        try {
+            result = new BatchItemResult(0, BatchItemResult.Status.CREATED, null);
+            result.setBooking(bookingService.createBooking(entry.request));
+        } catch (BookingConflictException e) {
+            result = new BatchItemResult(0, BatchItemResult.Status.CONFLICT, e.getMessage());
+        } catch (EntityNotFoundException e) {
+            result = new BatchItemResult(0, BatchItemResult.Status.NOT_FOUND, e.getMessage());
+        } catch (IllegalStateException e) {
+            result = new BatchItemResult(0, BatchItemResult.Status.UNAVAILABLE, e.getMessage());
+        } catch (RuntimeException e) {
+            entry.outcome.completeExceptionally(e);
+            return;
+        }
+        entry.outcome.complete(result);
+    }
+
+    private static final class Entry {
+        final String id;
+        final BookingRequest request;
+        final CompletableFuture<BatchItemResult> outcome = new CompletableFuture<>();
+
+        Entry(String id, BookingRequest request) {
+            this.id = id;
+            this.request = request;
+        }
+
+        Throwable failure() {
+            try {
+                outcome.join();
+                return null;
+            } catch (CompletionException e) {
+                return e.getCause();
+            }
+        }
+
+        BookingTicket toTicket() {
+            BookingTicket ticket = new BookingTicket(id, BookingTicket.State.PENDING);
+            if (outcome.isCompletedExceptionally()) {
+                ticket.setState(BookingTicket.State.FAILED);
+                ticket.setMessage("Booking could not be processed");
+            } else if (outcome.isDone()) {
+                BatchItemResult result = outcome.join();
+                result.setIndex(0);
+                ticket.setState(BookingTicket.State.COMPLETED);
+                ticket.setResult(result);
+            }
+            return ticket;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.booking.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.function.IntSupplier;
+
+/**
+ * Periodically marks finished bookings COMPLETED and then moves completed,
+ * cancelled and expired bookings older than {@code hot-days} out of the
+ * bookings table, chunk by chunk until nothing is left to do. Safe to run
+ * on several instances at once: completion only touches rows still
+ * CONFIRMED and archiving skips rows another instance has locked.
+ */
+@Component
+public class BookingArchiveJob {
+
+    private final BookingArchiveService archiveService;
+    private final boolean enabled;
+    private final int hotDays;
+    private final int batchSize;
+    private final Counter completed;
+    private final Counter archived;
+
+    public BookingArchiveJob(BookingArchiveService archiveService, MeterRegistry meterRegistry,
+            @Value("${booking.archive.enabled:true}") boolean enabled,
+            @Value("${booking.archive.hot-days:30}") int hotDays,
+            @Value("${booking.archive.batch-size:1000}") int batchSize) {
+        this.archiveService = archiveService;
+        this.enabled = enabled;
+        this.hotDays = hotDays;
+        this.batchSize = batchSize;
+        this.completed = Counter.builder("booking.archive.completed")
+                .description("Bookings moved from CONFIRMED to COMPLETED after they ended")
+                .register(meterRegistry);
+        this.archived = Counter.builder("booking.archive.moved")
+                .description("Bookings moved to bookings_archive")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(initialDelayString = "${booking.archive.initial-delay-ms:60000}",
+            fixedDelayString = "${booking.archive.interval-ms:300000}")
+    public void run() {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        completed.increment(drain(() -> archiveService.completeFinished(now, batchSize)));
+        archived.increment(drain(() -> archiveService.archiveFinished(
+                now.toLocalDate().minusDays(hotDays), batchSize)));
+    }
+
+    private static int drain(IntSupplier chunk) {
+        int total = 0;
+        int done;
+        while ((done = chunk.getAsInt()) > 0) {
+            total += done;
+        }
+        return total;
+    }
+}
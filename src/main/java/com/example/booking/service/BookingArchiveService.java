@@ -0,0 +1,64 @@
+package com.example.booking.service;
+
+import com.example.booking.repository.ArchivedBookingRepository;
+import com.example.booking.repository.BookingRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Booking lifecycle housekeeping, one chunk per transaction so no run holds
+ * row locks for long. Driven by {@link BookingArchiveJob}.
+ */
+@Service
+public class BookingArchiveService {
+
+    private final BookingRepository bookingRepository;
+    private final ArchivedBookingRepository archivedBookingRepository;
+    private final ChangeSequence changeSequence;
+    private final BookingChangeTracker changeTracker;
+
+    public BookingArchiveService(BookingRepository bookingRepository,
+            ArchivedBookingRepository archivedBookingRepository,
+            ChangeSequence changeSequence,
+            BookingChangeTracker changeTracker) {
+        this.bookingRepository = bookingRepository;
+        this.archivedBookingRepository = archivedBookingRepository;
+        this.changeSequence = changeSequence;
+        this.changeTracker = changeTracker;
+    }
+
+    /**
+     * Marks up to {@code limit} CONFIRMED bookings that ended before
+     * {@code now} as COMPLETED. The rows get this transaction's change
+     * number, so delta sync clients pick up the new status.
+     */
+    @Transactional
+    public int completeFinished(LocalDateTime now, int limit) {
+        List<Long> ids = bookingRepository.findFinishedConfirmedIds(
+                now.toLocalDate(), now.toLocalTime(), PageRequest.ofSize(limit));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        int completed = bookingRepository.markCompleted(ids, changeSequence.current(), now);
+        changeTracker.markChanged();
+        return completed;
+    }
+
+    /**
+     * Moves up to {@code limit} finished bookings dated before
+     * {@code cutoff} into bookings_archive.
+     */
+    @Transactional
+    public int archiveFinished(LocalDate cutoff, int limit) {
+        int moved = archivedBookingRepository.archiveFinishedBefore(cutoff, limit);
+        if (moved > 0) {
+            changeTracker.markChanged();
+        }
+        return moved;
+    }
+}
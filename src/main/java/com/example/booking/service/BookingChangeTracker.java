@@ -0,0 +1,42 @@
+package com.example.booking.service;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Remembers when booking data last changed through this instance, so read
+ * endpoints can answer conditional requests (Last-Modified) cheaply.
+ * Services call {@link #markChanged()} from inside their write transaction;
+ * the timestamp only moves once that transaction commits.
+ */
+@Component
+public class BookingChangeTracker {
+
+    // HTTP dates have second precision, so keep the timestamp at seconds too
+    private volatile Instant lastModified = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+
+    public Instant getLastModified() {
+        return lastModified;
+    }
+
+    public void markChanged() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            touch();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                touch();
+            }
+        });
+    }
+
+    private void touch() {
+        lastModified = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+    }
+}
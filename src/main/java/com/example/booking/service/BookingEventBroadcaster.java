@@ -0,0 +1,177 @@
+package com.example.booking.service;
+
+import com.example.booking.dto.BookingEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Fans committed {@link BookingEvent}s out to Server-Sent Events
+ * subscribers. After the publishing transaction commits, each event is put
+ * on every matching subscriber's bounded buffer, and a small delivery pool
+ * drains each buffer in order, one task per subscriber at a time. A client
+ * that stops reading holds up its own buffer, plus one delivery thread while
+ * a write to it blocks, but not the other clients. Once its buffer is full
+ * it is disconnected, and it reconnects and catches up from GET /sync like
+ * any other dropped client. A comment line is sent periodically to keep idle
+ * connections open through proxies and to notice clients that went away.
+ */
+@Component
+public class BookingEventBroadcaster {
+
+    private static final long HEARTBEAT_MILLIS = 25_000;
+
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private final long timeoutMillis;
+    private final int maxSubscribers;
+    private final int bufferSize;
+    private final ExecutorService delivery;
+    private final Counter slowSubscribers;
+
+    public BookingEventBroadcaster(MeterRegistry meterRegistry,
+            @Value("${booking.stream.timeout-ms:1800000}") long timeoutMillis,
+            @Value("${booking.stream.max-subscribers:1000}") int maxSubscribers,
+            @Value("${booking.stream.buffer-size:2048}") int bufferSize,
+            @Value("${booking.stream.delivery-threads:4}") int deliveryThreads) {
+        this.timeoutMillis = timeoutMillis;
+        this.maxSubscribers = maxSubscribers;
+        this.bufferSize = bufferSize;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.delivery = Executors.newFixedThreadPool(deliveryThreads, task -> {
+            Thread thread = new Thread(task, "booking-events-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        Gauge.builder("booking.stream.subscribers", subscribers, List::size)
+                .description("Open GET /api/bookings/stream connections")
+                .register(meterRegistry);
+        this.slowSubscribers = Counter.builder("booking.stream.dropped")
+                .description("Booking stream connections closed because the client fell behind")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Opens a stream of events for one facility and/or date (null for any).
+     * Clients reconnect on their own when the stream times out.
+     */
+    public SseEmitter subscribe(Long facilityId, LocalDate date) {
+        if (subscribers.size() >= maxSubscribers) {
+            throw new RejectedExecutionException("Too many booking stream subscribers");
+        }
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(emitter, facilityId, date, new ArrayBlockingQueue<>(bufferSize));
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+        subscribers.add(subscriber);
+        return emitter;
+    }
+
+    @TransactionalEventListener
+    public void onBookingEvent(BookingEvent event) {
+        String name = event.getType().name().toLowerCase();
+        for (Subscriber subscriber : subscribers) {
+            if (event.matches(subscriber.facilityId, subscriber.date)) {
+                enqueue(subscriber, () -> SseEmitter.event().name(name).data(event));
+            }
+        }
+    }
+
+    @Scheduled(fixedRate = HEARTBEAT_MILLIS)
+    public void heartbeat() {
+        subscribers.forEach(subscriber -> enqueue(subscriber, () -> SseEmitter.event().comment("ping")));
+    }
+
+    @PreDestroy
+    public void stop() {
+        delivery.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+    }
+
+    // Builders append to themselves when sent, so each subscriber gets a fresh one
+    private void enqueue(Subscriber subscriber, Supplier<SseEmitter.SseEventBuilder> message) {
+        if (subscriber.pending.offer(message)) {
+            schedule(subscriber);
+        } else if (remove(subscriber)) {
+            slowSubscribers.increment();
+            schedule(subscriber); // completes the emitter once the send in progress returns
+        }
+    }
+
+    private void schedule(Subscriber subscriber) {
+        if (subscriber.draining.compareAndSet(false, true)) {
+            try {
+                delivery.execute(() -> drain(subscriber));
+            } catch (RejectedExecutionException e) {
+                // Shutting down; stop() completes the emitter
+            }
+        }
+    }
+
+    /**
+     * Sends what is buffered for one subscriber. Only one drain runs per
+     * subscriber at a time, so its events keep their order.
+     */
+    private void drain(Subscriber subscriber) {
+        do {
+            Supplier<SseEmitter.SseEventBuilder> message;
+            while (!subscriber.closed && (message = subscriber.pending.poll()) != null) {
+                try {
+                    subscriber.emitter.send(message.get());
+                } catch (IOException | IllegalStateException e) {
+                    // Client disconnected or the emitter already completed
+                    remove(subscriber);
+                }
+            }
+            if (subscriber.closed) {
+                subscriber.pending.clear();
+                subscriber.emitter.complete();
+                return; // draining stays set, so nothing is scheduled for it again
+            }
+            subscriber.draining.set(false);
+            // An event or a close may have arrived after the loop ended
+        } while ((subscriber.closed || !subscriber.pending.isEmpty())
+                && subscriber.draining.compareAndSet(false, true));
+    }
+
+    private boolean remove(Subscriber subscriber) {
+        subscriber.closed = true;
+        return subscribers.remove(subscriber);
+    }
+
+    private static final class Subscriber {
+        final SseEmitter emitter;
+        final Long facilityId;
+        final LocalDate date;
+        final BlockingQueue<Supplier<SseEmitter.SseEventBuilder>> pending;
+        final AtomicBoolean draining = new AtomicBoolean();
+        volatile boolean closed;
+
+        Subscriber(SseEmitter emitter, Long facilityId, LocalDate date,
+                BlockingQueue<Supplier<SseEmitter.SseEventBuilder>> pending) {
+            this.emitter = emitter;
+            this.facilityId = facilityId;
+            this.date = date;
+            this.pending = pending;
+        }
+    }
+}
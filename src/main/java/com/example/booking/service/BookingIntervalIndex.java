@@ -0,0 +1,322 @@
+package com.example.booking.service;
+
+import com.example.booking.repository.BookingRepository;
+import com.example.booking.repository.BookingSlot;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * In-process index of active (non-cancelled) booking intervals, keyed by
+ * facility and date, so overlap checks do not need a database round trip.
+ *
+ * The index is write-through: BookingService reserves an interval before
+ * persisting and the reservation is dropped again if the transaction rolls
+ * back. It is rebuilt from the bookings table once the application is ready;
+ * until then, and for dates before the day it was built, callers should fall
+ * back to the repository (see {@link #isIndexed(LocalDate)}).
+ *
+ * The index only sees writes made through this instance, so a booking
+ * cancelled or moved elsewhere (or while the index was being built) stays
+ * behind as a stale interval. A conflict is therefore never final: callers
+ * {@link #reload} the facility-day from the database and try again. Missing
+ * intervals are left to the no_overlapping_bookings exclusion constraint.
+ * Past days are dropped every night.
+ */
+@Component
+public class BookingIntervalIndex {
+
+    private final BookingRepository bookingRepository;
+
+    private volatile Map<DayKey, DaySchedule> days = new ConcurrentHashMap<>();
+
+    // Stamps each reservation as its transaction commits, so a reload can
+    // tell the commits its database read may have missed
+    private final AtomicLong commits = new AtomicLong();
+
+    // First date held by the index; null until the startup rebuild completes
+    private volatile LocalDate horizon;
+
+    public BookingIntervalIndex(BookingRepository bookingRepository) {
+        this.bookingRepository = bookingRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        LocalDate from = LocalDate.now();
+        Map<DayKey, DaySchedule> rebuilt = new ConcurrentHashMap<>();
+        for (BookingSlot slot : bookingRepository.findActiveSlotsFrom(from)) {
+            rebuilt.computeIfAbsent(new DayKey(slot.getFacilityId(), slot.getDate()), k -> new DaySchedule())
+                    .add(new Interval(slot.getId(), slot.getFacilityId(), slot.getDate(),
+                            slot.getStartTime(), slot.getEndTime()));
+        }
+        days = rebuilt;
+        horizon = from;
+    }
+
+    /**
+     * Moves the horizon to today and drops the days before it; overlap
+     * questions about past days go to the database from then on.
+     */
+    @Scheduled(cron = "0 1 0 * * *")
+    public void evictPastDays() {
+        if (horizon == null) {
+            return;
+        }
+        LocalDate today = LocalDate.now();
+        horizon = today;
+        days.keySet().removeIf(key -> key.date().isBefore(today));
+    }
+
+    /**
+     * Replaces the committed intervals of a facility's days with the active
+     * bookings now in the database. Reservations of transactions that are
+     * still running are kept, and so are those committed after the read
+     * began, which the read may not have seen.
+     */
+    public void reload(Long facilityId, Collection<LocalDate> dates) {
+        long readFrom = commits.get();
+        Map<LocalDate, List<BookingSlot>> stored = bookingRepository
+                .findActiveSlotsOn(List.of(facilityId), dates)
+                .stream()
+                .collect(Collectors.groupingBy(BookingSlot::getDate));
+        for (LocalDate date : dates) {
+            List<Interval> committed = stored.getOrDefault(date, List.of()).stream()
+                    .map(slot -> new Interval(slot.getId(), facilityId, date,
+                            slot.getStartTime(), slot.getEndTime()))
+                    .toList();
+            schedule(facilityId, date).replaceCommitted(committed, readFrom);
+        }
+    }
+
+    /**
+     * Whether overlap questions for this date can be answered from memory.
+     */
+    public boolean isIndexed(LocalDate date) {
+        LocalDate from = horizon;
+        return from != null && date != null && !date.isBefore(from);
+    }
+
+    /**
+     * Returns true if any indexed interval other than {@code excludeBookingId}
+     * overlaps the requested time range. Intervals are half-open, like the
+     * bookings.slot tsrange, so intervals that merely share an endpoint do
+     * not conflict.
+     */
+    public boolean hasConflict(Long facilityId, LocalDate date, LocalTime start, LocalTime end,
+            Long excludeBookingId) {
+        DaySchedule schedule = days.get(new DayKey(facilityId, date));
+        return schedule != null
+                && schedule.findConflict(start.toSecondOfDay(), end.toSecondOfDay(), excludeBookingId);
+    }
+
+    /**
+     * Atomically checks the requested range and, if free, records it.
+     * Returns null when the range conflicts with an indexed interval.
+     *
+     * When called inside a transaction the reservation is released again if
+     * that transaction rolls back.
+     */
+    public Interval reserve(Long facilityId, LocalDate date, LocalTime start, LocalTime end,
+            Long bookingId) {
+        Interval interval = new Interval(bookingId, facilityId, date, start, end);
+        if (!schedule(facilityId, date).addIfFree(interval)) {
+            return null;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            interval.committedAt = commits.incrementAndGet();
+            return interval;
+        }
+        interval.pending = true;
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    // Stamped before it stops being pending, so a reload always keeps it
+                    interval.committedAt = commits.incrementAndGet();
+                    interval.pending = false;
+                } else {
+                    release(interval);
+                }
+            }
+        });
+        return interval;
+    }
+
+    /**
+     * Looks up the interval currently indexed for a booking, or null.
+     */
+    public Interval find(Long facilityId, LocalDate date, Long bookingId) {
+        DaySchedule schedule = days.get(new DayKey(facilityId, date));
+        return schedule != null ? schedule.find(bookingId) : null;
+    }
+
+    /**
+     * Removes an interval once the surrounding transaction commits, or
+     * immediately when there is no transaction.
+     */
+    public void releaseOnCommit(Interval interval) {
+        if (interval == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            release(interval);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                release(interval);
+            }
+        });
+    }
+
+    public void release(Interval interval) {
+        DaySchedule schedule = days.get(new DayKey(interval.facilityId, interval.date));
+        if (schedule != null) {
+            schedule.remove(interval);
+        }
+    }
+
+    private DaySchedule schedule(Long facilityId, LocalDate date) {
+        return days.computeIfAbsent(new DayKey(facilityId, date), k -> new DaySchedule());
+    }
+
+    private record DayKey(Long facilityId, LocalDate date) {}
+
+    /**
+     * A booked range in seconds of the day. The booking id is filled in after
+     * the insert for reservations made before the row had an id; pending
+     * marks a reservation whose transaction has not completed yet, and
+     * committedAt when it committed (0 for intervals read from the database).
+     */
+    public static final class Interval {
+        private volatile Long bookingId;
+        private volatile boolean pending;
+        private volatile long committedAt;
+        private final Long facilityId;
+        private final LocalDate date;
+        private final int start;
+        private final int end;
+
+        Interval(Long bookingId, Long facilityId, LocalDate date, LocalTime start, LocalTime end) {
+            this.bookingId = bookingId;
+            this.facilityId = facilityId;
+            this.date = date;
+            this.start = start.toSecondOfDay();
+            this.end = end.toSecondOfDay();
+        }
+
+        public Long getBookingId() { return bookingId; }
+        public void setBookingId(Long bookingId) { this.bookingId = bookingId; }
+    }
+
+    /**
+     * Intervals for one facility on one day, kept sorted by start time.
+     */
+    private static final class DaySchedule {
+        private final List<Interval> intervals = new ArrayList<>();
+
+        synchronized boolean findConflict(int start, int end, Long excludeBookingId) {
+            for (Interval i : intervals) {
+                // Sorted by start, so nothing further along can overlap
+                if (i.start >= end) {
+                    break;
+                }
+                if (excludeBookingId != null && excludeBookingId.equals(i.bookingId)) {
+                    continue;
+                }
+                if (i.end > start) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        synchronized boolean addIfFree(Interval interval) {
+            if (findConflict(interval.start, interval.end, interval.bookingId)) {
+                return false;
+            }
+            add(interval);
+            return true;
+        }
+
+        synchronized void add(Interval interval) {
+            int low = 0;
+            int high = intervals.size();
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (intervals.get(mid).start <= interval.start) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            intervals.add(low, interval);
+        }
+
+        synchronized Interval find(Long bookingId) {
+            for (Interval i : intervals) {
+                if (Objects.equals(i.bookingId, bookingId)) {
+                    return i;
+                }
+            }
+            return null;
+        }
+
+        synchronized void remove(Interval interval) {
+            if (intervals.removeIf(i -> i == interval) || interval.bookingId == null) {
+                return;
+            }
+            // The day was reloaded since the interval was looked up; drop its copy
+            for (Iterator<Interval> it = intervals.iterator(); it.hasNext(); ) {
+                Interval i = it.next();
+                if (!i.pending && sameBooking(i, interval)) {
+                    it.remove();
+                    return;
+                }
+            }
+        }
+
+        synchronized void replaceCommitted(List<Interval> committed, long readFrom) {
+            List<Interval> kept = intervals.stream()
+                    .filter(i -> i.pending || i.committedAt > readFrom)
+                    .toList();
+            Set<Long> keptIds = kept.stream()
+                    .map(i -> i.bookingId)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toSet());
+            intervals.clear();
+            for (Interval i : committed) {
+                // Committed a moment ago, its reservation is kept already
+                if (!keptIds.contains(i.bookingId)
+                        || kept.stream().noneMatch(k -> sameBooking(k, i))) {
+                    intervals.add(i);
+                }
+            }
+            intervals.addAll(kept);
+            intervals.sort(Comparator.comparingInt(i -> i.start));
+        }
+
+        private static boolean sameBooking(Interval a, Interval b) {
+            return Objects.equals(a.bookingId, b.bookingId) && a.start == b.start && a.end == b.end;
+        }
+    }
+}
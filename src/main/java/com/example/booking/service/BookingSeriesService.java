@@ -0,0 +1,323 @@
+package com.example.booking.service;
+
+import com.example.booking.dto.BookingEvent;
+import com.example.booking.dto.BookingResponse;
+import com.example.booking.dto.BookingSeriesRequest;
+import com.example.booking.dto.BookingSeriesResponse;
+import com.example.booking.dto.BookingSeriesUpdateRequest;
+import com.example.booking.exception.BookingConflictException;
+import com.example.booking.model.Booking;
+import com.example.booking.model.BookingSeries;
+import com.example.booking.model.BookingStatus;
+import com.example.booking.model.Facility;
+import com.example.booking.model.User;
+import com.example.booking.repository.BookingRepository;
+import com.example.booking.repository.BookingSeriesRepository;
+import com.example.booking.repository.BookingSlot;
+import com.example.booking.repository.FacilityRepository;
+import com.example.booking.repository.UserRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+public class BookingSeriesService {
+
+    private final BookingSeriesRepository seriesRepository;
+    private final BookingRepository bookingRepository;
+    private final UserRepository userRepository;
+    private final FacilityRepository facilityRepository;
+    private final BookingIntervalIndex intervalIndex;
+    private final FacilityLocks facilityLocks;
+    private final BookingChangeTracker changeTracker;
+    private final ChangeSequence changeSequence;
+    private final FacilityUtilizationService utilization;
+    private final ApplicationEventPublisher events;
+
+    public BookingSeriesService(BookingSeriesRepository seriesRepository,
+            BookingRepository bookingRepository,
+            UserRepository userRepository,
+            FacilityRepository facilityRepository,
+            BookingIntervalIndex intervalIndex,
+            FacilityLocks facilityLocks,
+            BookingChangeTracker changeTracker,
+            ChangeSequence changeSequence,
+            FacilityUtilizationService utilization,
+            ApplicationEventPublisher events) {
+        this.seriesRepository = seriesRepository;
+        this.bookingRepository = bookingRepository;
+        this.userRepository = userRepository;
+        this.facilityRepository = facilityRepository;
+        this.intervalIndex = intervalIndex;
+        this.facilityLocks = facilityLocks;
+        this.changeTracker = changeTracker;
+        this.changeSequence = changeSequence;
+        this.utilization = utilization;
+        this.events = events;
+    }
+
+    @ReplicaRead
+    @Transactional(readOnly = true)
+    public BookingSeriesResponse getSeriesById(Long id) {
+        return convertToResponse(findSeries(id));
+    }
+
+    /**
+     * Creates a series and one booking per occurrence. Every occurrence is
+     * checked in a single pass: dates held by the interval index are
+     * reserved in memory, and any remaining dates are checked with one
+     * set-based query. If any occurrence conflicts nothing is saved and the
+     * conflicting dates are reported.
+     */
+    @RetryOnContention
+    @Transactional
+    public BookingSeriesResponse createSeries(BookingSeriesRequest request) {
+        User user = userRepository.findById(request.getUserId())
+                .orElseThrow(() -> new EntityNotFoundException("User not found with id: " + request.getUserId()));
+
+        Facility facility = facilityRepository.findById(request.getFacilityId())
+                .orElseThrow(
+                        () -> new EntityNotFoundException("Facility not found with id: " + request.getFacilityId()));
+
+        if (!facility.getIsAvailable()) {
+            throw new IllegalStateException("Facility is not available for booking");
+        }
+
+        BookingSeries series = new BookingSeries();
+        series.setUser(user);
+        series.setFacility(facility);
+        series.setStartTime(request.getStartTime());
+        series.setEndTime(request.getEndTime());
+        series.setPurpose(request.getPurpose());
+        series.setFrequency(request.getFrequency());
+        series.setRepeatInterval(request.getInterval() == null ? 1 : request.getInterval());
+        series.setStartDate(request.getStartDate());
+        series.setUntilDate(request.getUntil());
+        series.setOccurrenceCount(request.getCount());
+        if (request.getExceptionDates() != null) {
+            series.setExceptionDates(new LinkedHashSet<>(request.getExceptionDates()));
+        }
+
+        List<LocalDate> dates = RecurrenceExpander.occurrences(series).toList();
+        if (dates.isEmpty()) {
+            throw new IllegalArgumentException("Recurrence rule produces no occurrences");
+        }
+
+        facilityLocks.lockUntilCompletion(facility.getId());
+        List<BookingIntervalIndex.Interval> reservations = new ArrayList<>(dates.size());
+        List<LocalDate> unindexed = new ArrayList<>();
+        List<LocalDate> indexedConflicts = new ArrayList<>();
+        List<LocalDate> conflicts = new ArrayList<>();
+        for (LocalDate date : dates) {
+            if (!intervalIndex.isIndexed(date)) {
+                unindexed.add(date);
+                reservations.add(null);
+                continue;
+            }
+            BookingIntervalIndex.Interval reserved = intervalIndex.reserve(facility.getId(), date,
+                    series.getStartTime(), series.getEndTime(), null);
+            if (reserved == null) {
+                indexedConflicts.add(date);
+            }
+            reservations.add(reserved);
+        }
+        if (!indexedConflicts.isEmpty()) {
+            // The index may hold bookings changed through another instance
+            intervalIndex.reload(facility.getId(), indexedConflicts);
+            for (LocalDate date : indexedConflicts) {
+                BookingIntervalIndex.Interval reserved = intervalIndex.reserve(facility.getId(), date,
+                        series.getStartTime(), series.getEndTime(), null);
+                if (reserved == null) {
+                    conflicts.add(date);
+                } else {
+                    reservations.set(dates.indexOf(date), reserved);
+                }
+            }
+        }
+        if (!unindexed.isEmpty()) {
+            conflicts.addAll(bookingRepository.findConflictingDates(
+                    facility.getId(), unindexed, series.getStartTime(), series.getEndTime()));
+        }
+        if (!conflicts.isEmpty()) {
+            releaseAll(reservations);
+            throw new BookingConflictException(
+                    "Facility is already booked for some occurrences of the series",
+                    conflicts.stream().sorted().map(LocalDate::toString).collect(Collectors.toList()));
+        }
+
+        BookingSeries saved = seriesRepository.save(series);
+        List<Booking> occurrences = new ArrayList<>(dates.size());
+        for (LocalDate date : dates) {
+            Booking booking = new Booking(user, facility, date,
+                    saved.getStartTime(), saved.getEndTime(), saved.getPurpose());
+            booking.setStatus(BookingStatus.CONFIRMED);
+            booking.setSeries(saved);
+            occurrences.add(booking);
+        }
+        List<Booking> savedBookings = bookingRepository.saveAll(occurrences);
+        for (int i = 0; i < savedBookings.size(); i++) {
+            BookingIntervalIndex.Interval reserved = reservations.get(i);
+            if (reserved != null) {
+                reserved.setBookingId(savedBookings.get(i).getId());
+            }
+        }
+        utilization.add(savedBookings.stream().map(Booking::getId).toList());
+        changeTracker.markChanged();
+        BookingSeriesResponse response = convertToResponse(saved);
+        publishOccurrences(BookingEvent.Type.CREATED, response, null);
+        return response;
+    }
+
+    /**
+     * Moves every remaining occurrence (today onwards, not cancelled) to a
+     * new time and purpose with one bulk UPDATE. Occurrences are re-checked
+     * against other bookings first; the series' own bookings never conflict
+     * with themselves.
+     */
+    @RetryOnContention
+    @Transactional
+    public BookingSeriesResponse updateSeries(Long id, BookingSeriesUpdateRequest request) {
+        BookingSeries series = findSeries(id);
+        Long facilityId = series.getFacility().getId();
+        LocalTime startTime = request.getStartTime();
+        LocalTime endTime = request.getEndTime();
+        LocalDate today = LocalDate.now();
+
+        facilityLocks.lockUntilCompletion(facilityId);
+        List<BookingSlot> remaining = bookingRepository.findActiveSlotsBySeriesFrom(id, today);
+        List<BookingIntervalIndex.Interval> reservations = new ArrayList<>();
+        List<BookingIntervalIndex.Interval> previous = new ArrayList<>();
+        List<LocalDate> unindexed = new ArrayList<>();
+        List<BookingSlot> indexedConflicts = new ArrayList<>();
+        List<LocalDate> conflicts = new ArrayList<>();
+        for (BookingSlot slot : remaining) {
+            if (!intervalIndex.isIndexed(slot.getDate())) {
+                unindexed.add(slot.getDate());
+                continue;
+            }
+            previous.add(intervalIndex.find(facilityId, slot.getDate(), slot.getId()));
+            BookingIntervalIndex.Interval reserved = intervalIndex.reserve(facilityId, slot.getDate(),
+                    startTime, endTime, slot.getId());
+            if (reserved == null) {
+                indexedConflicts.add(slot);
+            } else {
+                reservations.add(reserved);
+            }
+        }
+        if (!indexedConflicts.isEmpty()) {
+            intervalIndex.reload(facilityId, indexedConflicts.stream().map(BookingSlot::getDate).toList());
+            for (BookingSlot slot : indexedConflicts) {
+                BookingIntervalIndex.Interval reserved = intervalIndex.reserve(facilityId, slot.getDate(),
+                        startTime, endTime, slot.getId());
+                if (reserved == null) {
+                    conflicts.add(slot.getDate());
+                } else {
+                    reservations.add(reserved);
+                }
+            }
+        }
+        if (!unindexed.isEmpty()) {
+            conflicts.addAll(bookingRepository.findOverlappingDatesOutsideSeries(
+                    facilityId, unindexed, startTime, endTime, id));
+        }
+        if (!conflicts.isEmpty()) {
+            releaseAll(reservations);
+            throw new BookingConflictException(
+                    "Facility is already booked for some occurrences of the series",
+                    conflicts.stream().sorted().map(LocalDate::toString).collect(Collectors.toList()));
+        }
+
+        List<Long> remainingIds = remaining.stream().map(BookingSlot::getId).toList();
+        utilization.remove(remainingIds);
+        bookingRepository.rescheduleSeriesFrom(id, today, startTime, endTime, request.getPurpose(),
+                changeSequence.current(), LocalDateTime.now());
+        utilization.add(remainingIds);
+        previous.forEach(intervalIndex::releaseOnCommit);
+        changeTracker.markChanged();
+
+        series.setStartTime(startTime);
+        series.setEndTime(endTime);
+        series.setPurpose(request.getPurpose());
+        BookingSeriesResponse response = convertToResponse(seriesRepository.save(series));
+        publishOccurrences(BookingEvent.Type.UPDATED, response, today);
+        return response;
+    }
+
+    /**
+     * Cancels every remaining occurrence (today onwards) with one bulk
+     * UPDATE. Past occurrences are left as they are.
+     */
+    @RetryOnContention
+    @Transactional
+    public void cancelSeries(Long id) {
+        BookingSeries series = findSeries(id);
+        Long facilityId = series.getFacility().getId();
+        LocalDate today = LocalDate.now();
+
+        List<BookingSlot> remaining = bookingRepository.findActiveSlotsBySeriesFrom(id, today);
+        if (remaining.isEmpty()) {
+            throw new IllegalStateException("Booking series is already cancelled");
+        }
+        utilization.remove(remaining.stream().map(BookingSlot::getId).toList());
+        bookingRepository.cancelSeriesFrom(id, today, changeSequence.current(), LocalDateTime.now());
+        for (BookingSlot slot : remaining) {
+            intervalIndex.releaseOnCommit(intervalIndex.find(facilityId, slot.getDate(), slot.getId()));
+            events.publishEvent(new BookingEvent(BookingEvent.Type.CANCELLED,
+                    slot.getId(), facilityId, slot.getDate()));
+        }
+        changeTracker.markChanged();
+    }
+
+    private BookingSeries findSeries(Long id) {
+        return seriesRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Booking series not found with id: " + id));
+    }
+
+    /**
+     * Publishes one booking event per active occurrence on or after
+     * {@code from} (all of them when null).
+     */
+    private void publishOccurrences(BookingEvent.Type type, BookingSeriesResponse series, LocalDate from) {
+        for (BookingResponse occurrence : series.getOccurrences()) {
+            if (occurrence.getStatus() != BookingStatus.CANCELLED
+                    && (from == null || !occurrence.getDate().isBefore(from))) {
+                events.publishEvent(BookingEvent.of(type, occurrence));
+            }
+        }
+    }
+
+    private void releaseAll(List<BookingIntervalIndex.Interval> reservations) {
+        for (BookingIntervalIndex.Interval reserved : reservations) {
+            if (reserved != null) {
+                intervalIndex.release(reserved);
+            }
+        }
+    }
+
+    private BookingSeriesResponse convertToResponse(BookingSeries series) {
+        BookingSeriesResponse response = new BookingSeriesResponse();
+        response.setId(series.getId());
+        response.setUserId(series.getUser().getId());
+        response.setFacilityId(series.getFacility().getId());
+        response.setStartTime(series.getStartTime());
+        response.setEndTime(series.getEndTime());
+        response.setPurpose(series.getPurpose());
+        response.setFrequency(series.getFrequency());
+        response.setInterval(series.getRepeatInterval());
+        response.setStartDate(series.getStartDate());
+        response.setUntil(series.getUntilDate());
+        response.setCount(series.getOccurrenceCount());
+        response.setExceptionDates(new LinkedHashSet<>(series.getExceptionDates()));
+        response.setOccurrences(bookingRepository.findResponsesBySeriesId(series.getId()));
+        return response;
+    }
+}
@@ -1,82 +1,210 @@
 package com.example.booking.service;
 
+import com.example.booking.dto.BatchBookingRequest;
+import com.example.booking.dto.BatchBookingResponse;
+import com.example.booking.dto.BatchItemResult;
+import com.example.booking.dto.BookingEvent;
+import com.example.booking.dto.BookingFilter;
+import com.example.booking.dto.BookingPage;
 import com.example.booking.dto.BookingRequest;
 import com.example.booking.dto.BookingResponse;
 import com.example.booking.exception.BookingConflictException;
 import com.example.booking.model.Booking;
 import com.example.booking.model.BookingStatus;
 import com.example.booking.model.Facility;
+import com.example.booking.model.TimeRange;
+import com.example.booking.model.Tombstone;
 import com.example.booking.model.User;
+import com.example.booking.repository.ArchivedBookingRepository;
 import com.example.booking.repository.BookingRepository;
 import com.example.booking.repository.FacilityRepository;
 import com.example.booking.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 public class BookingService {
 
+    public static final int DEFAULT_PAGE_SIZE = 100;
+    public static final int MAX_PAGE_SIZE = 500;
+
+    // Latency of each write/check, tagged by operation (histogram for Prometheus percentiles)
+    static final String OPERATION_TIMER = "booking.operation";
+
+    // Keyset order shared by the hot and archive list queries
+    private static final Comparator<BookingResponse> LIST_ORDER =
+            Comparator.comparing(BookingResponse::getDate).thenComparing(BookingResponse::getId);
+
     private final BookingRepository bookingRepository;
+    private final ArchivedBookingRepository archivedBookingRepository;
     private final UserRepository userRepository;
     private final FacilityRepository facilityRepository;
+    private final UserService userService;
+    private final FacilityService facilityService;
+    private final BookingIntervalIndex intervalIndex;
+    private final FacilityLocks facilityLocks;
+    private final BookingChangeTracker changeTracker;
+    private final ChangeSequence changeSequence;
+    private final FacilityUtilizationService utilization;
+    private final Validator validator;
+    private final ApplicationEventPublisher events;
 
     public BookingService(BookingRepository bookingRepository,
+            ArchivedBookingRepository archivedBookingRepository,
             UserRepository userRepository,
-            FacilityRepository facilityRepository) {
+            FacilityRepository facilityRepository,
+            UserService userService,
+            FacilityService facilityService,
+            BookingIntervalIndex intervalIndex,
+            FacilityLocks facilityLocks,
+            BookingChangeTracker changeTracker,
+            ChangeSequence changeSequence,
+            FacilityUtilizationService utilization,
+            Validator validator,
+            ApplicationEventPublisher events) {
         this.bookingRepository = bookingRepository;
+        this.archivedBookingRepository = archivedBookingRepository;
         this.userRepository = userRepository;
         this.facilityRepository = facilityRepository;
+        this.userService = userService;
+        this.facilityService = facilityService;
+        this.intervalIndex = intervalIndex;
+        this.facilityLocks = facilityLocks;
+        this.changeTracker = changeTracker;
+        this.changeSequence = changeSequence;
+        this.utilization = utilization;
+        this.validator = validator;
+        this.events = events;
+    }
+
+    /**
+     * Returns one keyset page of bookings ordered by date and id. The cursor
+     * is the opaque value handed out as {@code nextCursor} by the previous
+     * page; pass null to start from the beginning. Archived bookings are
+     * only included when the filter asks for history; both tables share the
+     * same (date, id) order, so one cursor pages through the merged list.
+     */
+    @ReplicaRead
+    @Transactional(readOnly = true)
+    public BookingPage getBookingsPage(BookingFilter filter, String cursor, Integer limit) {
+        int size = limit == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        LocalDate afterDate = null;
+        Long afterId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] parts = decodeCursor(cursor);
+            afterDate = LocalDate.parse(parts[0]);
+            afterId = Long.valueOf(parts[1]);
+        }
+
+        // Fetch one extra row to learn whether another page follows
+        List<BookingResponse> rows = bookingRepository.findPageAfter(
+                filter.getStatus(), filter.getFacilityId(), filter.getUserId(),
+                filter.getFrom(), filter.getTo(), afterDate, afterId,
+                PageRequest.ofSize(size + 1));
+        if (filter.isIncludeHistory()) {
+            List<BookingResponse> archived = archivedBookingRepository.findPageAfter(
+                    filter.getStatus(), filter.getFacilityId(), filter.getUserId(),
+                    filter.getFrom(), filter.getTo(), afterDate, afterId,
+                    PageRequest.ofSize(size + 1));
+            List<BookingResponse> merged = new ArrayList<>(rows.size() + archived.size());
+            mergeOrdered(rows.iterator(), archived.iterator(), merged::add);
+            rows = merged.size() > size + 1 ? merged.subList(0, size + 1) : merged;
+        }
+
+        String nextCursor = null;
+        if (rows.size() > size) {
+            rows = rows.subList(0, size);
+            BookingResponse last = rows.get(size - 1);
+            nextCursor = encodeCursor(last.getDate(), last.getId());
+        }
+        return new BookingPage(rows, nextCursor);
     }
 
-    public List<BookingResponse> getAllBookings() {
-        return bookingRepository.findAll().stream()
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
+    /**
+     * Streams every booking matching the filter to the sink, one row at a
+     * time. Rows are read as DTO projections, so nothing accumulates in the
+     * persistence context during a full export. With history included the
+     * hot and archived rows are merged in (date, id) order as they stream.
+     */
+    @ReplicaRead
+    @Transactional(readOnly = true)
+    public void exportBookings(BookingFilter filter, Consumer<BookingResponse> sink) {
+        try (Stream<BookingResponse> rows = bookingRepository.streamFiltered(
+                filter.getStatus(), filter.getFacilityId(), filter.getUserId(),
+                filter.getFrom(), filter.getTo())) {
+            if (!filter.isIncludeHistory()) {
+                rows.forEach(sink);
+                return;
+            }
+            try (Stream<BookingResponse> archived = archivedBookingRepository.streamFiltered(
+                    filter.getStatus(), filter.getFacilityId(), filter.getUserId(),
+                    filter.getFrom(), filter.getTo())) {
+                mergeOrdered(rows.iterator(), archived.iterator(), sink);
+            }
+        }
     }
 
+    // A lookup by id is a primary-key probe, so archived bookings are always found
+    @ReplicaRead
+    @Transactional(readOnly = true)
     public BookingResponse getBookingById(Long id) {
-        Booking booking = bookingRepository.findById(id)
+        return bookingRepository.findResponseById(id)
+                .or(() -> archivedBookingRepository.findResponseById(id))
                 .orElseThrow(() -> new EntityNotFoundException("Booking not found with id: " + id));
-        return convertToResponse(booking);
     }
 
+    @Timed(value = OPERATION_TIMER, extraTags = {"operation", "create"}, histogram = true)
+    @RetryOnContention
     @Transactional
     public BookingResponse createBooking(BookingRequest request) {
-        // Validate user exists
-        User user = userRepository.findById(request.getUserId())
-                .orElseThrow(() -> new EntityNotFoundException("User not found with id: " + request.getUserId()));
+        // Validate user exists (cached)
+        User user = userService.getUserById(request.getUserId());
 
-        // Validate facility exists and is available
-        Facility facility = facilityRepository.findById(request.getFacilityId())
-                .orElseThrow(
-                        () -> new EntityNotFoundException("Facility not found with id: " + request.getFacilityId()));
+        // Validate facility exists and is available (cached)
+        Facility facility = facilityService.getFacilityById(request.getFacilityId());
 
         if (!facility.getIsAvailable()) {
             throw new IllegalStateException("Facility is not available for booking");
         }
 
-        // Check for conflicting bookings
-        boolean hasConflict = bookingRepository.existsConflictingBooking(
+        // Serialize writers for this facility, then check for conflicting
+        // bookings and hold the slot until commit
+        facilityLocks.lockUntilCompletion(facility.getId());
+        BookingIntervalIndex.Interval reserved = reserveSlot(
                 request.getFacilityId(),
                 request.getDate(),
                 request.getStartTime(),
-                request.getEndTime());
-
-        if (hasConflict) {
-            throw new BookingConflictException(
-                    "Facility is already booked during the requested time slot");
-        }
+                request.getEndTime(),
+                null);
 
         // Create and save booking
         Booking booking = new Booking();
-        booking.setUser(user);
-        booking.setFacility(facility);
+        // Cached instances are detached; associate by reference instead
+        booking.setUser(userRepository.getReferenceById(user.getId()));
+        booking.setFacility(facilityRepository.getReferenceById(facility.getId()));
         booking.setDate(request.getDate());
         booking.setStartTime(request.getStartTime());
         booking.setEndTime(request.getEndTime());
@@ -84,9 +212,102 @@ public class BookingService {
         booking.setStatus(BookingStatus.CONFIRMED);
 
         Booking savedBooking = bookingRepository.save(booking);
-        return convertToResponse(savedBooking);
+        if (reserved != null) {
+            reserved.setBookingId(savedBooking.getId());
+        }
+        utilization.add(List.of(savedBooking.getId()));
+        changeTracker.markChanged();
+        BookingResponse response = convertToResponse(savedBooking, user, facility);
+        events.publishEvent(BookingEvent.of(BookingEvent.Type.CREATED, response));
+        return response;
     }
 
+    /**
+     * Creates many bookings in one transaction. Users and facilities are
+     * loaded once for the whole batch, conflicts (including conflicts between
+     * items of the same batch) are decided in memory, and the accepted rows
+     * are inserted through a single saveAll so Hibernate can send them as
+     * JDBC batches.
+     */
+    @Timed(value = OPERATION_TIMER, extraTags = {"operation", "create-batch"}, histogram = true)
+    @RetryOnContention
+    @Transactional
+    public BatchBookingResponse createBookings(BatchBookingRequest batch) {
+        List<BookingRequest> items = batch.getBookings();
+        boolean allOrNothing = batch.getMode() != BatchBookingRequest.Mode.PARTIAL;
+
+        Map<Long, User> users = userRepository.findAllById(collectIds(items, BookingRequest::getUserId))
+                .stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        Map<Long, Facility> facilities = facilityRepository.findAllById(collectIds(items, BookingRequest::getFacilityId))
+                .stream()
+                .collect(Collectors.toMap(Facility::getId, Function.identity()));
+
+        facilityLocks.lockUntilCompletion(facilities.keySet());
+
+        List<BatchItemResult> results = new ArrayList<>(items.size());
+        List<Booking> accepted = new ArrayList<>();
+        List<BatchItemResult> acceptedResults = new ArrayList<>();
+        List<BookingIntervalIndex.Interval> reservations = new ArrayList<>();
+        boolean anyFailed = false;
+
+        for (int i = 0; i < items.size(); i++) {
+            BookingRequest item = items.get(i);
+            BatchItemResult result = checkBatchItem(i, item, users, facilities, accepted);
+            if (result == null) {
+                try {
+                    reservations.add(reserveSlot(item.getFacilityId(), item.getDate(),
+                            item.getStartTime(), item.getEndTime(), null));
+                } catch (BookingConflictException e) {
+                    result = new BatchItemResult(i, BatchItemResult.Status.CONFLICT,
+                            "Facility is already booked during the requested time slot");
+                }
+            }
+            if (result != null) {
+                anyFailed = true;
+                results.add(result);
+                continue;
+            }
+
+            Booking booking = new Booking(users.get(item.getUserId()), facilities.get(item.getFacilityId()),
+                    item.getDate(), item.getStartTime(), item.getEndTime(), item.getPurpose());
+            booking.setStatus(BookingStatus.CONFIRMED);
+            result = new BatchItemResult(i, BatchItemResult.Status.CREATED, null);
+            accepted.add(booking);
+            acceptedResults.add(result);
+            results.add(result);
+        }
+
+        if (allOrNothing && anyFailed) {
+            // Nothing is written, so hand the reserved slots straight back
+            reservations.stream().filter(Objects::nonNull).forEach(intervalIndex::release);
+            acceptedResults.forEach(r -> {
+                r.setStatus(BatchItemResult.Status.SKIPPED);
+                r.setMessage("Not saved because another booking in the batch failed");
+            });
+            return new BatchBookingResponse(batch.getMode(), results);
+        }
+
+        List<Booking> saved = bookingRepository.saveAll(accepted);
+        for (int i = 0; i < saved.size(); i++) {
+            Booking booking = saved.get(i);
+            BookingIntervalIndex.Interval reserved = reservations.get(i);
+            if (reserved != null) {
+                reserved.setBookingId(booking.getId());
+            }
+            BookingResponse response = convertToResponse(booking);
+            acceptedResults.get(i).setBooking(response);
+            events.publishEvent(BookingEvent.of(BookingEvent.Type.CREATED, response));
+        }
+        if (!saved.isEmpty()) {
+            utilization.add(saved.stream().map(Booking::getId).toList());
+            changeTracker.markChanged();
+        }
+        return new BatchBookingResponse(batch.getMode(), results);
+    }
+
+    @Timed(value = OPERATION_TIMER, extraTags = {"operation", "update"}, histogram = true)
+    @RetryOnContention
     @Transactional
     public BookingResponse updateBooking(Long id, BookingRequest request) {
         Booking booking = bookingRepository.findById(id)
@@ -97,45 +318,52 @@ public class BookingService {
             throw new IllegalStateException("Cannot update a cancelled booking");
         }
 
-        // Validate user exists
-        User user = userRepository.findById(request.getUserId())
-                .orElseThrow(() -> new EntityNotFoundException("User not found with id: " + request.getUserId()));
+        // Validate user exists (cached)
+        User user = userService.getUserById(request.getUserId());
 
-        // Validate facility exists and is available
-        Facility facility = facilityRepository.findById(request.getFacilityId())
-                .orElseThrow(
-                        () -> new EntityNotFoundException("Facility not found with id: " + request.getFacilityId()));
+        // Validate facility exists and is available (cached)
+        Facility facility = facilityService.getFacilityById(request.getFacilityId());
 
         if (!facility.getIsAvailable()) {
             throw new IllegalStateException("Facility is not available for booking");
         }
 
-        // Check for conflicts (excluding this booking)
-        List<Booking> conflictingBookings = bookingRepository.findActiveBookingsByFacilityAndDate(
-                request.getFacilityId(), request.getDate())
-                .stream()
-                .filter(b -> !b.getId().equals(id)) // Exclude current booking
-                .filter(b -> timeOverlap(b.getStartTime(), b.getEndTime(), request.getStartTime(),
-                        request.getEndTime()))
-                .toList();
+        // Check for conflicts (excluding this booking) and hold the new slot
+        facilityLocks.lockUntilCompletion(List.of(booking.getFacility().getId(), facility.getId()));
+        BookingIntervalIndex.Interval previous = intervalIndex.find(
+                booking.getFacility().getId(), booking.getDate(), id);
+        reserveSlot(request.getFacilityId(), request.getDate(),
+                request.getStartTime(), request.getEndTime(), id);
 
-        if (!conflictingBookings.isEmpty()) {
-            throw new BookingConflictException(
-                    "Facility is already booked during the requested time slot");
-        }
+        Long previousFacilityId = booking.getFacility().getId();
+        LocalDate previousDate = booking.getDate();
+        utilization.remove(List.of(id));
 
         // Update fields
-        booking.setUser(user);
-        booking.setFacility(facility);
+        // Cached instances are detached; associate by reference instead
+        booking.setUser(userRepository.getReferenceById(user.getId()));
+        booking.setFacility(facilityRepository.getReferenceById(facility.getId()));
         booking.setDate(request.getDate());
         booking.setStartTime(request.getStartTime());
         booking.setEndTime(request.getEndTime());
         booking.setPurpose(request.getPurpose());
 
         Booking updatedBooking = bookingRepository.save(booking);
-        return convertToResponse(updatedBooking);
+        utilization.add(List.of(id));
+        intervalIndex.releaseOnCommit(previous);
+        changeTracker.markChanged();
+        BookingResponse response = convertToResponse(updatedBooking, user, facility);
+        BookingEvent event = BookingEvent.of(BookingEvent.Type.UPDATED, response);
+        if (!previousFacilityId.equals(facility.getId()) || !previousDate.equals(request.getDate())) {
+            event.setPreviousFacilityId(previousFacilityId);
+            event.setPreviousDate(previousDate);
+        }
+        events.publishEvent(event);
+        return response;
     }
 
+    @Timed(value = OPERATION_TIMER, extraTags = {"operation", "cancel"}, histogram = true)
+    @RetryOnContention
     @Transactional
     public void cancelBooking(Long id) {
         Booking booking = bookingRepository.findById(id)
@@ -145,56 +373,225 @@ public class BookingService {
             throw new IllegalStateException("Booking is already cancelled");
         }
 
+        utilization.remove(List.of(id));
         booking.setStatus(BookingStatus.CANCELLED);
         bookingRepository.save(booking);
+        intervalIndex.releaseOnCommit(
+                intervalIndex.find(booking.getFacility().getId(), booking.getDate(), id));
+        changeTracker.markChanged();
+        events.publishEvent(new BookingEvent(BookingEvent.Type.CANCELLED,
+                id, booking.getFacility().getId(), booking.getDate()));
     }
 
+    @Timed(value = OPERATION_TIMER, extraTags = {"operation", "delete"}, histogram = true)
+    @RetryOnContention
     @Transactional
     public void deleteBooking(Long id) {
-        if (!bookingRepository.existsById(id)) {
-            throw new EntityNotFoundException("Booking not found with id: " + id);
-        }
-        bookingRepository.deleteById(id);
+        Booking booking = bookingRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Booking not found with id: " + id));
+        utilization.remove(List.of(id));
+        bookingRepository.delete(booking);
+        changeSequence.recordDeletions(Tombstone.Kind.BOOKING, List.of(id));
+        intervalIndex.releaseOnCommit(
+                intervalIndex.find(booking.getFacility().getId(), booking.getDate(), id));
+        changeTracker.markChanged();
+        events.publishEvent(new BookingEvent(BookingEvent.Type.DELETED,
+                id, booking.getFacility().getId(), booking.getDate()));
     }
 
+    @Timed(value = OPERATION_TIMER, extraTags = {"operation", "check"}, histogram = true)
     public boolean isFacilityAvailable(Long facilityId, LocalDate date, String startTime, String endTime) {
         LocalTime start = LocalTime.parse(startTime);
         LocalTime end = LocalTime.parse(endTime);
 
-        return !bookingRepository.existsConflictingBooking(facilityId, date, start, end);
+        if (intervalIndex.isIndexed(date)) {
+            if (!intervalIndex.hasConflict(facilityId, date, start, end, null)) {
+                return true;
+            }
+            // Confirm against the database before answering no
+            intervalIndex.reload(facilityId, List.of(date));
+            return !intervalIndex.hasConflict(facilityId, date, start, end, null);
+        }
+        return !bookingRepository.existsConflictingBooking(facilityId, TimeRange.of(date, start, end), null);
     }
 
-    public List<BookingResponse> getBookingsByUser(Long userId) {
+    @ReplicaRead
+    @Transactional(readOnly = true)
+    public List<BookingResponse> getBookingsByUser(Long userId, boolean includeHistory) {
         if (!userRepository.existsById(userId)) {
             throw new EntityNotFoundException("User not found with id: " + userId);
         }
 
-        return bookingRepository.findByUserId(userId).stream()
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
+        List<BookingResponse> bookings = bookingRepository.findResponsesByUserId(userId);
+        return includeHistory
+                ? withHistory(bookings, archivedBookingRepository.findResponsesByUserId(userId))
+                : bookings;
     }
 
-    public List<BookingResponse> getBookingsByFacility(Long facilityId) {
+    @ReplicaRead
+    @Transactional(readOnly = true)
+    public List<BookingResponse> getBookingsByFacility(Long facilityId, boolean includeHistory) {
         if (!facilityRepository.existsById(facilityId)) {
             throw new EntityNotFoundException("Facility not found with id: " + facilityId);
         }
 
-        return bookingRepository.findByFacilityId(facilityId).stream()
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
+        List<BookingResponse> bookings = bookingRepository.findResponsesByFacilityId(facilityId);
+        return includeHistory
+                ? withHistory(bookings, archivedBookingRepository.findResponsesByFacilityId(facilityId))
+                : bookings;
+    }
+
+    private static List<BookingResponse> withHistory(List<BookingResponse> hot, List<BookingResponse> archived) {
+        List<BookingResponse> all = new ArrayList<>(archived.size() + hot.size());
+        all.addAll(archived);
+        all.addAll(hot);
+        all.sort(Comparator.comparing(BookingResponse::getDate).thenComparing(BookingResponse::getStartTime));
+        return all;
+    }
+
+    /**
+     * Feeds two (date, id)-ordered sources to the sink as one ordered
+     * sequence. A row archived between the two queries can show up in both;
+     * the second copy is dropped.
+     */
+    private static void mergeOrdered(Iterator<BookingResponse> hot, Iterator<BookingResponse> archived,
+            Consumer<BookingResponse> sink) {
+        BookingResponse a = hot.hasNext() ? hot.next() : null;
+        BookingResponse b = archived.hasNext() ? archived.next() : null;
+        Long lastId = null;
+        while (a != null || b != null) {
+            BookingResponse next;
+            if (b == null || (a != null && LIST_ORDER.compare(a, b) <= 0)) {
+                next = a;
+                a = hot.hasNext() ? hot.next() : null;
+            } else {
+                next = b;
+                b = archived.hasNext() ? archived.next() : null;
+            }
+            if (!next.getId().equals(lastId)) {
+                sink.accept(next);
+                lastId = next.getId();
+            }
+        }
+    }
+
+    /**
+     * Checks the requested slot for conflicts and, for dates held by the
+     * interval index, reserves it there so concurrent requests see it before
+     * this transaction commits. Ranges are half-open, so a booking may start
+     * exactly when another ends; an update ({@code bookingId != null}) never
+     * conflicts with itself. A conflict in the index is only trusted after
+     * the day has been reloaded from the database.
+     */
+    private BookingIntervalIndex.Interval reserveSlot(Long facilityId, LocalDate date,
+            LocalTime startTime, LocalTime endTime, Long bookingId) {
+        BookingIntervalIndex.Interval reserved = null;
+        boolean hasConflict;
+        if (intervalIndex.isIndexed(date)) {
+            reserved = intervalIndex.reserve(facilityId, date, startTime, endTime, bookingId);
+            if (reserved == null) {
+                intervalIndex.reload(facilityId, List.of(date));
+                reserved = intervalIndex.reserve(facilityId, date, startTime, endTime, bookingId);
+            }
+            hasConflict = reserved == null;
+        } else {
+            hasConflict = bookingRepository.existsConflictingBooking(
+                    facilityId, TimeRange.of(date, startTime, endTime), bookingId);
+        }
+
+        if (hasConflict) {
+            throw new BookingConflictException(
+                    "Facility is already booked during the requested time slot");
+        }
+        return reserved;
+    }
+
+    /**
+     * Returns a failed result for a batch item that cannot be booked, or null
+     * if the item is valid and does not clash with an earlier item of the batch.
+     */
+    private BatchItemResult checkBatchItem(int index, BookingRequest item,
+            Map<Long, User> users, Map<Long, Facility> facilities, List<Booking> accepted) {
+        if (item == null) {
+            return new BatchItemResult(index, BatchItemResult.Status.INVALID, "Booking is missing");
+        }
+        Set<ConstraintViolation<BookingRequest>> violations = validator.validate(item);
+        if (!violations.isEmpty()) {
+            BatchItemResult result = new BatchItemResult(index, BatchItemResult.Status.INVALID,
+                    "Some fields are missing or invalid");
+            result.setDetails(violations.stream()
+                    .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                    .sorted()
+                    .collect(Collectors.toList()));
+            return result;
+        }
+        if (!users.containsKey(item.getUserId())) {
+            return new BatchItemResult(index, BatchItemResult.Status.NOT_FOUND,
+                    "User not found with id: " + item.getUserId());
+        }
+        Facility facility = facilities.get(item.getFacilityId());
+        if (facility == null) {
+            return new BatchItemResult(index, BatchItemResult.Status.NOT_FOUND,
+                    "Facility not found with id: " + item.getFacilityId());
+        }
+        if (!facility.getIsAvailable()) {
+            return new BatchItemResult(index, BatchItemResult.Status.UNAVAILABLE,
+                    "Facility is not available for booking");
+        }
+        // Same half-open rule as createBooking: back-to-back items do not clash
+        TimeRange range = TimeRange.of(item.getDate(), item.getStartTime(), item.getEndTime());
+        boolean clashesWithBatch = accepted.stream().anyMatch(b ->
+                b.getFacility().getId().equals(item.getFacilityId())
+                        && b.getSlot().overlaps(range));
+        if (clashesWithBatch) {
+            return new BatchItemResult(index, BatchItemResult.Status.CONFLICT,
+                    "Overlaps another booking in the same batch");
+        }
+        return null;
+    }
+
+    private static Set<Long> collectIds(List<BookingRequest> items, Function<BookingRequest, Long> id) {
+        return items.stream()
+                .filter(Objects::nonNull)
+                .map(id)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+    }
+
+    private static String encodeCursor(LocalDate date, Long id) {
+        String raw = date + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String[] decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Malformed cursor: " + cursor);
+            }
+            LocalDate.parse(parts[0]);
+            Long.parseLong(parts[1]);
+            return parts;
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Malformed cursor: " + cursor, e);
+        }
     }
 
-    private boolean timeOverlap(LocalTime aStart, LocalTime aEnd, LocalTime bStart, LocalTime bEnd) {
-        return aStart.isBefore(bEnd) && aEnd.isAfter(bStart);
+    // Package-private for the mapping benchmark in benchmarks/
+    static BookingResponse convertToResponse(Booking booking) {
+        return convertToResponse(booking, booking.getUser(), booking.getFacility());
     }
 
-    private BookingResponse convertToResponse(Booking booking) {
+    static BookingResponse convertToResponse(Booking booking, User user, Facility facility) {
         BookingResponse response = new BookingResponse();
         response.setId(booking.getId());
-        response.setUserId(booking.getUser().getId());
-        response.setUserName(booking.getUser().getName());
-        response.setFacilityId(booking.getFacility().getId());
-        response.setFacilityName(booking.getFacility().getName());
+        response.setUserId(user.getId());
+        response.setUserEmail(user.getEmail());
+        response.setUserName(user.getName());
+        response.setFacilityId(facility.getId());
+        response.setFacilityName(facility.getName());
         response.setDate(booking.getDate());
         response.setStartTime(booking.getStartTime());
         response.setEndTime(booking.getEndTime());
@@ -0,0 +1,103 @@
+package com.example.booking.service;
+
+import com.example.booking.model.Tombstone;
+import com.example.booking.repository.TombstoneRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Hands out change numbers for delta sync. Every write transaction takes
+ * one number from the change_seq database sequence the first time it
+ * needs it, and all bookings, facilities and tombstones it writes carry
+ * that number.
+ *
+ * Numbers are allocated when a transaction starts writing, not when it
+ * commits, so a lower number can become visible after a higher one. Sync
+ * therefore only reads up to the {@link #watermark()}: the highest number
+ * below every transaction still in flight. Like BookingIntervalIndex this
+ * only knows about transactions on this instance.
+ */
+@Component
+public class ChangeSequence {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TombstoneRepository tombstoneRepository;
+
+    private final NavigableSet<Long> inFlight = new ConcurrentSkipListSet<>();
+    private long highest; // guarded by this
+
+    public ChangeSequence(JdbcTemplate jdbcTemplate, TombstoneRepository tombstoneRepository) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.tombstoneRepository = tombstoneRepository;
+    }
+
+    // Everything numbered before startup belongs to finished transactions
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void init() {
+        highest = Math.max(highest, nextValue());
+    }
+
+    /**
+     * The change number of the current transaction, allocated on first use.
+     */
+    public long current() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return allocate(false);
+        }
+        Long bound = (Long) TransactionSynchronizationManager.getResource(this);
+        if (bound != null) {
+            return bound;
+        }
+        long seq = allocate(true);
+        TransactionSynchronizationManager.bindResource(this, seq);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(ChangeSequence.this);
+                inFlight.remove(seq);
+            }
+        });
+        return seq;
+    }
+
+    /**
+     * Highest change number at or below which every transaction on this
+     * instance has finished.
+     */
+    public synchronized long watermark() {
+        return inFlight.isEmpty() ? highest : inFlight.first() - 1;
+    }
+
+    /**
+     * Records tombstones for deleted rows under the current change number.
+     */
+    public void recordDeletions(Tombstone.Kind kind, Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        long seq = current();
+        tombstoneRepository.saveAll(ids.stream().map(id -> new Tombstone(kind, id, seq)).toList());
+    }
+
+    // One short statement; holding the monitor keeps allocation and watermark consistent
+    private synchronized long allocate(boolean track) {
+        long seq = nextValue();
+        if (track) {
+            inFlight.add(seq);
+        }
+        highest = Math.max(highest, seq);
+        return seq;
+    }
+
+    private long nextValue() {
+        return jdbcTemplate.queryForObject("SELECT nextval('change_seq')", Long.class);
+    }
+}
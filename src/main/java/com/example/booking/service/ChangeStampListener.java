@@ -0,0 +1,31 @@
+package com.example.booking.service;
+
+import com.example.booking.model.ChangeTracked;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.time.LocalDateTime;
+
+/**
+ * JPA listener that stamps inserted and updated {@link ChangeTracked}
+ * entities with the transaction's change number. Hibernate creates it
+ * through Spring while the EntityManagerFactory is being built, so
+ * ChangeSequence (which needs a repository) is looked up on first use.
+ */
+public class ChangeStampListener {
+
+    private final ObjectProvider<ChangeSequence> changeSequence;
+
+    public ChangeStampListener(ObjectProvider<ChangeSequence> changeSequence) {
+        this.changeSequence = changeSequence;
+    }
+
+    @PrePersist
+    @PreUpdate
+    public void stamp(Object entity) {
+        if (entity instanceof ChangeTracked tracked) {
+            tracked.stampChange(changeSequence.getObject().current(), LocalDateTime.now());
+        }
+    }
+}
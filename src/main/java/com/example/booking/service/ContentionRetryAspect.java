@@ -0,0 +1,80 @@
+package com.example.booking.service;
+
+import com.example.booking.exception.BookingConflictException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.SQLException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Applies {@link RetryOnContention}. Ordered just outside the transaction
+ * interceptor, so every attempt runs in a fresh transaction and failures
+ * raised at commit (optimistic locks, the exclusion constraint) are seen
+ * here too.
+ */
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+public class ContentionRetryAspect {
+
+    // PostgreSQL exclusion_violation, raised by no_overlapping_bookings
+    private static final String EXCLUSION_VIOLATION = "23P01";
+
+    private final Counter retries;
+
+    public ContentionRetryAspect(MeterRegistry meterRegistry) {
+        this.retries = Counter.builder("booking.write.retries")
+                .description("Booking writes re-run after losing a race with a concurrent write")
+                .register(meterRegistry);
+    }
+
+    @Around("@annotation(retry)")
+    public Object retry(ProceedingJoinPoint joinPoint, RetryOnContention retry) throws Throwable {
+        // Joined an outer transaction: that one owns retrying
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+        long backoff = retry.backoffMillis();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return joinPoint.proceed();
+            } catch (DataIntegrityViolationException ex) {
+                if (isExclusionViolation(ex)) {
+                    throw new BookingConflictException(
+                            "Facility is already booked during the requested time slot");
+                }
+                throw ex;
+            } catch (ConcurrencyFailureException ex) {
+                if (attempt >= retry.attempts()) {
+                    throw ex;
+                }
+                retries.increment();
+                Thread.sleep(backoff + ThreadLocalRandom.current().nextLong(backoff + 1));
+                backoff *= 2;
+            }
+        }
+    }
+
+    private static boolean isExclusionViolation(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            // JDBC batches chain the per-row errors behind a BatchUpdateException
+            for (SQLException sql = cause instanceof SQLException s ? s : null; sql != null;
+                    sql = sql.getNextException()) {
+                if (EXCLUSION_VIOLATION.equals(sql.getSQLState())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
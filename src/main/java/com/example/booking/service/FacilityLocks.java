@@ -0,0 +1,81 @@
+package com.example.booking.service;
+
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Striped per-facility write locks. Booking writes for the same facility
+ * take the same lock, which is held until the surrounding transaction has
+ * committed or rolled back, so the next writer's conflict check already
+ * sees the previous writer's rows. This keeps a burst of requests for one
+ * popular room queued in memory instead of racing into the database's
+ * exclusion constraint.
+ *
+ * Locks are local to this instance; across instances the
+ * no_overlapping_bookings constraint is still the final guard.
+ */
+@Component
+public class FacilityLocks {
+
+    private static final int STRIPES = 64;
+    private static final long WAIT_MILLIS = 2000;
+
+    private final ReentrantLock[] stripes = new ReentrantLock[STRIPES];
+
+    public FacilityLocks() {
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    public void lockUntilCompletion(Long facilityId) {
+        lockUntilCompletion(List.of(facilityId));
+    }
+
+    /**
+     * Locks the stripes of all given facilities (in stripe order, so two
+     * writers never wait on each other) until the current transaction
+     * completes. Throws CannotAcquireLockException if a stripe stays busy,
+     * which callers treat as transient contention.
+     */
+    public void lockUntilCompletion(Collection<Long> facilityIds) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Facility locks must be taken inside a transaction");
+        }
+        int[] indexes = facilityIds.stream()
+                .mapToInt(FacilityLocks::stripeOf)
+                .distinct()
+                .sorted()
+                .toArray();
+        for (int index : indexes) {
+            ReentrantLock lock = stripes[index];
+            boolean acquired;
+            try {
+                acquired = lock.tryLock(WAIT_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                acquired = false;
+            }
+            if (!acquired) {
+                throw new CannotAcquireLockException("Timed out waiting for facility write lock");
+            }
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    lock.unlock();
+                }
+            });
+        }
+    }
+
+    private static int stripeOf(Long facilityId) {
+        return Math.floorMod(facilityId.hashCode(), STRIPES);
+    }
+}
@@ -1,59 +1,114 @@
 package com.example.booking.service;
 
+import com.example.booking.dto.BookingEvent;
+import com.example.booking.model.Booking;
 import com.example.booking.model.Facility;
+import com.example.booking.model.Tombstone;
 import com.example.booking.repository.FacilityRepository;
+import io.micrometer.core.annotation.Timed;
 import jakarta.persistence.EntityNotFoundException;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
+/**
+ * Facility reads are served from the "facilities" (by id) and
+ * "facilityLists" caches; every write evicts or refreshes the affected
+ * entries. Cached instances are shared, so callers must not modify them.
+ */
 @Service
 public class FacilityService {
     
     private final FacilityRepository facilityRepository;
+    private final BookingChangeTracker changeTracker;
+    private final ChangeSequence changeSequence;
+    private final ApplicationEventPublisher events;
     
-    public FacilityService(FacilityRepository facilityRepository) {
+    public FacilityService(FacilityRepository facilityRepository, BookingChangeTracker changeTracker,
+            ChangeSequence changeSequence, ApplicationEventPublisher events) {
         this.facilityRepository = facilityRepository;
+        this.changeTracker = changeTracker;
+        this.changeSequence = changeSequence;
+        this.events = events;
     }
     
+    @Cacheable(cacheNames = "facilityLists", key = "'all'")
     public List<Facility> getAllFacilities() {
-        return facilityRepository.findAll();
+        return List.copyOf(facilityRepository.findAll());
     }
     
+    @Cacheable(cacheNames = "facilities", key = "#id")
     public Facility getFacilityById(Long id) {
-        return facilityRepository.findById(id)
-                .orElseThrow(() -> new EntityNotFoundException("Facility not found with id: " + id));
+        return findFacility(id);
     }
     
+    @Timed(value = "facility.operation", extraTags = {"operation", "create"}, histogram = true)
     @Transactional
+    @CacheEvict(cacheNames = "facilityLists", allEntries = true)
     public Facility createFacility(Facility facility) {
         // Ensure new facility is created (not updating)
         facility.setId(null);
+        facility.setVersion(null);
         return facilityRepository.save(facility);
     }
     
+    @Timed(value = "facility.operation", extraTags = {"operation", "update"}, histogram = true)
     @Transactional
+    @Caching(
+            put = @CachePut(cacheNames = "facilities", key = "#id"),
+            evict = @CacheEvict(cacheNames = "facilityLists", allEntries = true))
     public Facility updateFacility(Long id, Facility facilityDetails) {
-        Facility facility = getFacilityById(id);
+        // Load a fresh copy rather than mutating the cached instance
+        Facility facility = findFacility(id);
+        
+        // A client that sends the version it read gets a lost-update check
+        if (facilityDetails.getVersion() != null
+                && !facilityDetails.getVersion().equals(facility.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(Facility.class, id);
+        }
         
         facility.setName(facilityDetails.getName());
         facility.setLocation(facilityDetails.getLocation());
         facility.setCapacity(facilityDetails.getCapacity());
         facility.setIsAvailable(facilityDetails.getIsAvailable());
         
-        return facilityRepository.save(facility);
+        // Flush now so the cached copy carries the incremented version
+        return facilityRepository.saveAndFlush(facility);
     }
     
+    @Timed(value = "facility.operation", extraTags = {"operation", "delete"}, histogram = true)
     @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = "facilities", key = "#id"),
+            @CacheEvict(cacheNames = "facilityLists", allEntries = true)})
     public void deleteFacility(Long id) {
-        if (!facilityRepository.existsById(id)) {
-            throw new EntityNotFoundException("Facility not found with id: " + id);
-        }
-        facilityRepository.deleteById(id);
+        Facility facility = findFacility(id);
+        // Deleting a facility cascades to its bookings, which need tombstones
+        // and stream events too
+        List<Booking> bookings = List.copyOf(facility.getBookings());
+        List<Long> bookingIds = bookings.stream().map(Booking::getId).toList();
+        facilityRepository.delete(facility);
+        changeSequence.recordDeletions(Tombstone.Kind.FACILITY, List.of(id));
+        changeSequence.recordDeletions(Tombstone.Kind.BOOKING, bookingIds);
+        changeTracker.markChanged();
+        bookings.forEach(booking -> events.publishEvent(new BookingEvent(BookingEvent.Type.DELETED,
+                booking.getId(), id, booking.getDate())));
     }
     
+    @Cacheable(cacheNames = "facilityLists", key = "'available'")
     public List<Facility> getAvailableFacilities() {
-        return facilityRepository.findByIsAvailableTrue();
+        return List.copyOf(facilityRepository.findByIsAvailableTrue());
+    }
+    
+    private Facility findFacility(Long id) {
+        return facilityRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Facility not found with id: " + id));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,127 @@
+package com.example.booking.service;
+
+import com.example.booking.dto.UtilizationReport;
+import com.example.booking.repository.FacilityRepository;
+import com.example.booking.repository.FacilityUtilizationRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Facility utilization backed by the facility_utilization rollup (booked
+ * minutes per facility, day and hour). Every service that writes bookings
+ * calls {@link #remove} before and {@link #add} after changing a booking's
+ * slot or status, inside its own transaction, so the rollup commits or
+ * rolls back together with the bookings. Reports then read at most 24 rows
+ * per day of the requested range, however long the booking history is.
+ */
+@Service
+public class FacilityUtilizationService {
+
+    public static final int MAX_DAYS = 366;
+
+    // The bookable day of the availability grid, 08:00 to 20:00
+    private static final long OPEN_MINUTES_PER_DAY =
+            ChronoUnit.MINUTES.between(AvailabilityService.DAY_START, AvailabilityService.DAY_END);
+
+    private final FacilityUtilizationRepository utilizationRepository;
+    private final FacilityRepository facilityRepository;
+
+    public FacilityUtilizationService(FacilityUtilizationRepository utilizationRepository,
+            FacilityRepository facilityRepository) {
+        this.utilizationRepository = utilizationRepository;
+        this.facilityRepository = facilityRepository;
+    }
+
+    /** Counts the bookings' current slots; cancelled bookings are skipped. */
+    public void add(Collection<Long> bookingIds) {
+        if (!bookingIds.isEmpty()) {
+            utilizationRepository.addBookings(bookingIds, 1);
+        }
+    }
+
+    /** Takes the bookings' current slots back out; call before changing or deleting them. */
+    public void remove(Collection<Long> bookingIds) {
+        if (!bookingIds.isEmpty()) {
+            utilizationRepository.addBookings(bookingIds, -1);
+        }
+    }
+
+    @ReplicaRead
+    @Transactional(readOnly = true)
+    public UtilizationReport getUtilization(Long facilityId, LocalDate from, LocalDate to, String granularity) {
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("'to' must not be before 'from'");
+        }
+        int dayCount = (int) ChronoUnit.DAYS.between(from, to) + 1;
+        if (dayCount > MAX_DAYS) {
+            throw new IllegalArgumentException("Date range cannot exceed " + MAX_DAYS + " days");
+        }
+        UtilizationReport.Granularity unit = parseGranularity(granularity);
+        if (!facilityRepository.existsById(facilityId)) {
+            throw new EntityNotFoundException("Facility not found with id: " + facilityId);
+        }
+
+        List<UtilizationReport.Bucket> buckets = new ArrayList<>();
+        if (unit == UtilizationReport.Granularity.HOUR) {
+            Map<Integer, Long> byHour = utilizationRepository.sumByHourOfDay(facilityId, from, to).stream()
+                    .collect(Collectors.toMap(FacilityUtilizationRepository.HourTotal::getHourOfDay,
+                            FacilityUtilizationRepository.HourTotal::getBookedMinutes));
+            for (int hour = 0; hour < 24; hour++) {
+                buckets.add(new UtilizationReport.Bucket(from, to, hour,
+                        byHour.getOrDefault(hour, 0L), 60L * dayCount));
+            }
+        } else {
+            Map<LocalDate, Long> byDay = utilizationRepository.sumByDay(facilityId, from, to).stream()
+                    .collect(Collectors.toMap(FacilityUtilizationRepository.DayTotal::getDate,
+                            FacilityUtilizationRepository.DayTotal::getBookedMinutes));
+            LocalDate start = from;
+            while (!start.isAfter(to)) {
+                // A week bucket runs to Sunday, clipped to the requested range
+                LocalDate end = unit == UtilizationReport.Granularity.DAY
+                        ? start
+                        : min(start.with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY)), to);
+                long booked = 0;
+                for (LocalDate day = start; !day.isAfter(end); day = day.plusDays(1)) {
+                    booked += byDay.getOrDefault(day, 0L);
+                }
+                long days = ChronoUnit.DAYS.between(start, end) + 1;
+                buckets.add(new UtilizationReport.Bucket(start, end, null, booked, OPEN_MINUTES_PER_DAY * days));
+                start = end.plusDays(1);
+            }
+        }
+
+        UtilizationReport report = new UtilizationReport();
+        report.setFacilityId(facilityId);
+        report.setFrom(from);
+        report.setTo(to);
+        report.setGranularity(unit);
+        report.setOpenFrom(AvailabilityService.DAY_START);
+        report.setOpenTo(AvailabilityService.DAY_END);
+        report.setBuckets(buckets);
+        return report;
+    }
+
+    private static UtilizationReport.Granularity parseGranularity(String value) {
+        try {
+            return UtilizationReport.Granularity.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("granularity must be one of: day, week, hour");
+        }
+    }
+
+    private static LocalDate min(LocalDate a, LocalDate b) {
+        return a.isBefore(b) ? a : b;
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.booking.service;
+
+import com.example.booking.model.BookingSeries;
+import com.example.booking.model.RecurrenceFrequency;
+
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Expands a {@link BookingSeries} into its occurrence dates. The stream is
+ * generated lazily, one date at a time, so callers that only need the first
+ * few occurrences (or stop at a conflict) never materialise the rest.
+ *
+ * As in RFC 5545, COUNT is applied before exception dates are removed, so an
+ * excluded date still uses up one of the counted occurrences.
+ */
+final class RecurrenceExpander {
+
+    // Backstop only: BookingSeriesRequest rejects rules that expand further
+    static final int MAX_OCCURRENCES = 366;
+
+    private RecurrenceExpander() {}
+
+    static Stream<LocalDate> occurrences(BookingSeries series) {
+        int every = series.getRepeatInterval() == null ? 1 : series.getRepeatInterval();
+        Period step = series.getFrequency() == RecurrenceFrequency.DAILY
+                ? Period.ofDays(every)
+                : Period.ofWeeks(every);
+
+        Stream<LocalDate> dates = Stream.iterate(series.getStartDate(), d -> d.plus(step));
+        LocalDate until = series.getUntilDate();
+        if (until != null) {
+            dates = dates.takeWhile(d -> !d.isAfter(until));
+        }
+        Integer count = series.getOccurrenceCount();
+        dates = dates.limit(count != null ? Math.min(count, MAX_OCCURRENCES) : MAX_OCCURRENCES);
+
+        Set<LocalDate> exceptions = series.getExceptionDates();
+        return exceptions == null || exceptions.isEmpty()
+                ? dates
+                : dates.filter(d -> !exceptions.contains(d));
+    }
+}
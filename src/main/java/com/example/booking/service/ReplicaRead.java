@@ -0,0 +1,18 @@
+package com.example.booking.service;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a read-only query that may be answered by the read replica, when
+ * one is configured. Only for reads that tolerate a little replication lag:
+ * results the application caches, or compares with state held in memory on
+ * the primary side (sync watermarks, the interval index), must not use it.
+ * See {@link ReplicaReadAspect}.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ReplicaRead {
+}
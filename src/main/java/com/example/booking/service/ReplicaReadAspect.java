@@ -0,0 +1,47 @@
+package com.example.booking.service;
+
+import com.example.booking.config.ReadYourWritesFilter;
+import com.example.booking.config.ReplicaRoutingDataSource;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import javax.sql.DataSource;
+
+/**
+ * Applies {@link ReplicaRead}. Ordered outside the transaction interceptor,
+ * so the replica is selected before the transaction takes its connection.
+ */
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+public class ReplicaReadAspect {
+
+    private final boolean replicaConfigured;
+
+    public ReplicaReadAspect(DataSource dataSource) {
+        this.replicaConfigured = dataSource instanceof ReplicaRoutingDataSource;
+    }
+
+    @Around("@annotation(com.example.booking.service.ReplicaRead)")
+    public Object route(ProceedingJoinPoint joinPoint) throws Throwable {
+        // Joined an outer transaction: its connection is already chosen
+        if (!replicaConfigured || TransactionSynchronizationManager.isActualTransactionActive()
+                || pinnedToPrimary()) {
+            return joinPoint.proceed();
+        }
+        return ReplicaRoutingDataSource.onReplica(joinPoint::proceed);
+    }
+
+    private static boolean pinnedToPrimary() {
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        return request != null && request.getAttribute(
+                ReadYourWritesFilter.PINNED_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) != null;
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.booking.service;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a transactional booking write that is re-run when it loses a race:
+ * optimistic lock failures, lock timeouts, serialization failures and
+ * deadlocks. An exclusion constraint violation on bookings is reported as a
+ * BookingConflictException instead. See {@link ContentionRetryAspect}.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RetryOnContention {
+
+    /** Total attempts, including the first. */
+    int attempts() default 3;
+
+    /** Delay before the first retry; doubles (with jitter) on each further retry. */
+    long backoffMillis() default 20;
+}
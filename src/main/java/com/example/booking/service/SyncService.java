@@ -0,0 +1,75 @@
+package com.example.booking.service;
+
+import com.example.booking.dto.BookingResponse;
+import com.example.booking.dto.SyncResponse;
+import com.example.booking.model.Tombstone;
+import com.example.booking.repository.BookingRepository;
+import com.example.booking.repository.FacilityRepository;
+import com.example.booking.repository.TombstoneRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Delta sync: everything that changed after a client's cursor, up to the
+ * current {@link ChangeSequence#watermark()}.
+ */
+@Service
+public class SyncService {
+
+    // Beyond this many changed bookings a full reload is cheaper for the client
+    public static final int MAX_CHANGES = 1000;
+
+    private final ChangeSequence changeSequence;
+    private final BookingRepository bookingRepository;
+    private final FacilityRepository facilityRepository;
+    private final TombstoneRepository tombstoneRepository;
+
+    public SyncService(ChangeSequence changeSequence,
+            BookingRepository bookingRepository,
+            FacilityRepository facilityRepository,
+            TombstoneRepository tombstoneRepository) {
+        this.changeSequence = changeSequence;
+        this.bookingRepository = bookingRepository;
+        this.facilityRepository = facilityRepository;
+        this.tombstoneRepository = tombstoneRepository;
+    }
+
+    /**
+     * Returns the changes after {@code since}. With no {@code since} only the
+     * current cursor is returned; a client takes it before its initial full
+     * load and syncs from there.
+     */
+    @Transactional(readOnly = true)
+    public SyncResponse changesSince(Long since) {
+        // Read the watermark before the rows, so nothing at or below it is still uncommitted
+        long upTo = changeSequence.watermark();
+        if (since == null) {
+            return new SyncResponse(upTo);
+        }
+        if (since < 0) {
+            throw new IllegalArgumentException("since must not be negative");
+        }
+        if (since >= upTo) {
+            return new SyncResponse(since);
+        }
+
+        SyncResponse response = new SyncResponse(upTo);
+        List<BookingResponse> bookings = bookingRepository.findResponsesChangedBetween(
+                since, upTo, PageRequest.ofSize(MAX_CHANGES + 1));
+        if (bookings.size() > MAX_CHANGES) {
+            response.setResync(true);
+            return response;
+        }
+        response.setBookings(bookings);
+        response.setFacilities(facilityRepository.findChangedBetween(since, upTo));
+        for (Tombstone tombstone : tombstoneRepository.findChangedBetween(since, upTo)) {
+            (tombstone.getKind() == Tombstone.Kind.BOOKING
+                    ? response.getDeletedBookingIds()
+                    : response.getDeletedFacilityIds()).add(tombstone.getEntityId());
+        }
+        return response;
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.booking.service;
+
+import com.example.booking.model.User;
+import com.example.booking.repository.UserRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+
+@Service
+public class UserService {
+
+    private final UserRepository userRepository;
+
+    public UserService(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    // Users are not edited through the API, so entries only leave the cache by TTL
+    @Cacheable(cacheNames = "users", key = "#id")
+    public User getUserById(Long id) {
+        return userRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("User not found with id: " + id));
+    }
+}
@@ -0,0 +1,122 @@
+-- Baseline schema, as created by project1.sql before Flyway took over.
+-- Databases that already have these tables are baselined at version 1
+-- (spring.flyway.baseline-on-migrate) and start from V2.
+
+-- Enable extension
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+-- Change numbers for delta sync (GET /api/sync); one per write transaction
+CREATE SEQUENCE change_seq;
+
+-- =========================================================
+-- FACILITIES TABLE (matches Facility.java exactly)
+-- =========================================================
+CREATE TABLE facilities (
+  id           BIGSERIAL PRIMARY KEY,
+  name         VARCHAR(100) NOT NULL,
+  location     VARCHAR(120) NOT NULL,
+  capacity     INTEGER NOT NULL CHECK (capacity > 0),
+  is_available BOOLEAN DEFAULT TRUE,
+  version      BIGINT NOT NULL DEFAULT 0,  -- @Version (optimistic locking)
+  change_seq   BIGINT,                     -- last change number (delta sync)
+  created_at   TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+  updated_at   TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+  -- NO description column (removed from entity)
+);
+
+-- =========================================================
+-- USERS TABLE (matches User.java exactly)
+-- =========================================================
+CREATE TABLE users (
+  id         BIGSERIAL PRIMARY KEY,
+  name       VARCHAR(100) NOT NULL,
+  email      VARCHAR(120) NOT NULL UNIQUE,
+  password   VARCHAR(255) NOT NULL,  -- ADDED to match entity
+  role       VARCHAR(30) NOT NULL CHECK (role IN ('STUDENT', 'STAFF', 'ADMIN')),
+  created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+  -- NO updated_at in entity, so we omit it
+);
+
+-- =========================================================
+-- BOOKING SERIES TABLES (matches BookingSeries.java)
+-- =========================================================
+CREATE TABLE booking_series (
+  id               BIGSERIAL PRIMARY KEY,
+  facility_id      BIGINT NOT NULL REFERENCES facilities(id) ON DELETE CASCADE,
+  user_id          BIGINT NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+  start_time       TIME NOT NULL,
+  end_time         TIME NOT NULL,
+  purpose          VARCHAR(500),
+  frequency        VARCHAR(30) NOT NULL CHECK (frequency IN ('DAILY', 'WEEKLY')),
+  repeat_interval  INTEGER NOT NULL DEFAULT 1 CHECK (repeat_interval > 0),
+  start_date       DATE NOT NULL,
+  until_date       DATE,
+  occurrence_count INTEGER,
+  created_at       TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE booking_series_exceptions (
+  series_id      BIGINT NOT NULL REFERENCES booking_series(id) ON DELETE CASCADE,
+  exception_date DATE NOT NULL
+);
+
+-- =========================================================
+-- BOOKINGS TABLE (matches Booking.java exactly)
+-- =========================================================
+CREATE TABLE bookings (
+  id          BIGSERIAL PRIMARY KEY,
+  facility_id BIGINT NOT NULL REFERENCES facilities(id) ON DELETE CASCADE,
+  user_id     BIGINT NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+  date        DATE NOT NULL,
+  start_time  TIME NOT NULL,
+  end_time    TIME NOT NULL,
+  status      VARCHAR(30) NOT NULL CHECK (status IN ('CONFIRMED', 'CANCELLED', 'COMPLETED', 'PENDING')),
+  purpose     VARCHAR(500),
+  series_id   BIGINT REFERENCES booking_series(id) ON DELETE SET NULL,
+  version     BIGINT NOT NULL DEFAULT 0,  -- @Version (optimistic locking)
+  change_seq  BIGINT,                     -- last change number (delta sync)
+  created_at  TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+  updated_at  TIMESTAMP,
+  CHECK (start_time < end_time)
+  -- NO slot in entity
+);
+
+-- =========================================================
+-- TOMBSTONES TABLE (matches Tombstone.java) - deleted rows for delta sync
+-- =========================================================
+CREATE TABLE tombstones (
+  id         BIGINT PRIMARY KEY,  -- drawn from change_seq
+  kind       VARCHAR(20) NOT NULL CHECK (kind IN ('BOOKING', 'FACILITY')),
+  entity_id  BIGINT NOT NULL,
+  change_seq BIGINT NOT NULL,
+  deleted_at TIMESTAMP NOT NULL
+);
+
+-- =========================================================
+-- ADDITIONAL CONSTRAINTS
+-- =========================================================
+ALTER TABLE bookings 
+ADD CONSTRAINT valid_time_range CHECK (end_time > start_time);
+
+ALTER TABLE bookings
+ADD CONSTRAINT no_overlapping_bookings
+EXCLUDE USING gist (
+  facility_id WITH =,
+  tsrange(date + start_time, date + end_time, '[)') WITH &&
+)
+WHERE (status != 'CANCELLED');
+
+-- Booking ids are allocated in blocks of 50 (pooled sequence in Booking.java)
+ALTER SEQUENCE bookings_id_seq INCREMENT BY 50;
+
+-- =========================================================
+-- INDEXES
+-- =========================================================
+CREATE INDEX idx_bookings_facility_id ON bookings(facility_id);
+CREATE INDEX idx_bookings_user_id ON bookings(user_id);
+CREATE INDEX idx_bookings_date ON bookings(date);
+CREATE INDEX idx_bookings_series_id ON bookings(series_id);
+CREATE INDEX idx_users_email ON users(email);
+CREATE INDEX idx_bookings_change_seq ON bookings(change_seq);
+CREATE INDEX idx_facilities_change_seq ON facilities(change_seq);
+CREATE INDEX idx_tombstones_change_seq ON tombstones(change_seq);
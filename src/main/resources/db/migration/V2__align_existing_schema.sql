@@ -0,0 +1,37 @@
+-- Databases created by ddl-auto=update rather than project1.sql are baselined
+-- at V1 without some of its objects. Every statement here is a no-op on a
+-- schema that V1 created.
+
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+CREATE SEQUENCE IF NOT EXISTS change_seq;
+
+ALTER TABLE facilities ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE facilities ADD COLUMN IF NOT EXISTS change_seq BIGINT;
+ALTER TABLE facilities ADD COLUMN IF NOT EXISTS updated_at TIMESTAMP;
+
+ALTER TABLE bookings ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE bookings ADD COLUMN IF NOT EXISTS change_seq BIGINT;
+ALTER TABLE bookings ADD COLUMN IF NOT EXISTS updated_at TIMESTAMP;
+
+CREATE TABLE IF NOT EXISTS tombstones (
+  id         BIGINT PRIMARY KEY,
+  kind       VARCHAR(20) NOT NULL CHECK (kind IN ('BOOKING', 'FACILITY')),
+  entity_id  BIGINT NOT NULL,
+  change_seq BIGINT NOT NULL,
+  deleted_at TIMESTAMP NOT NULL
+);
+
+-- The final guard against double booking (see ContentionRetryAspect)
+DO $$
+BEGIN
+  IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'no_overlapping_bookings') THEN
+    ALTER TABLE bookings
+    ADD CONSTRAINT no_overlapping_bookings
+    EXCLUDE USING gist (
+      facility_id WITH =,
+      tsrange(date + start_time, date + end_time, '[)') WITH &&
+    )
+    WHERE (status != 'CANCELLED');
+  END IF;
+END
+$$;
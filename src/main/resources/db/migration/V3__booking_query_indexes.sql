@@ -0,0 +1,32 @@
+-- Indexes shaped after the hot booking queries instead of one per column.
+
+-- Conflict checks and day schedules: active bookings of one facility on one
+-- date, filtered on the time range (existsConflictingBooking,
+-- findActiveBookingsByFacilityAndDate, findConflictingDates,
+-- findOverlappingDatesOutsideSeries, findActiveSlotsBetween). The predicate
+-- matches the queries' status != 'CANCELLED', so cancelled rows never enter it.
+CREATE INDEX IF NOT EXISTS idx_bookings_active_facility_date
+    ON bookings (facility_id, date, start_time, end_time)
+    WHERE status != 'CANCELLED';
+
+-- A user's / a facility's bookings in date order (findByUserId,
+-- findResponsesByUserId, findResponsesByFacilityId)
+CREATE INDEX IF NOT EXISTS idx_bookings_user_date ON bookings (user_id, date, start_time);
+CREATE INDEX IF NOT EXISTS idx_bookings_facility_date ON bookings (facility_id, date, start_time);
+
+-- Keyset paging over all bookings (findPageAfter orders by date, id)
+CREATE INDEX IF NOT EXISTS idx_bookings_date_id ON bookings (date, id);
+
+-- Remaining occurrences of a series (findActiveSlotsBySeriesFrom, bulk series updates)
+CREATE INDEX IF NOT EXISTS idx_bookings_series_date ON bookings (series_id, date);
+
+-- Each of these is the leading column of one of the indexes above
+DROP INDEX IF EXISTS idx_bookings_facility_id;
+DROP INDEX IF EXISTS idx_bookings_user_id;
+DROP INDEX IF EXISTS idx_bookings_date;
+DROP INDEX IF EXISTS idx_bookings_series_id;
+
+-- Delta sync reads rows by change number; V1 already has these
+CREATE INDEX IF NOT EXISTS idx_bookings_change_seq ON bookings (change_seq);
+CREATE INDEX IF NOT EXISTS idx_facilities_change_seq ON facilities (change_seq);
+CREATE INDEX IF NOT EXISTS idx_tombstones_change_seq ON tombstones (change_seq);
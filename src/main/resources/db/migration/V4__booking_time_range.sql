@@ -0,0 +1,15 @@
+-- Store each booking's time range so overlap queries can ask the GiST index
+-- directly (slot && :range) instead of comparing start/end columns. The
+-- range is half-open [), like the exclusion constraint: a booking ending at
+-- 10:00 does not overlap one starting at 10:00.
+ALTER TABLE bookings
+    ADD COLUMN IF NOT EXISTS slot tsrange
+    GENERATED ALWAYS AS (tsrange(date + start_time, date + end_time, '[)')) STORED;
+
+-- Rebuild the exclusion constraint on the stored column so its GiST index
+-- (facility_id, slot) serves both the constraint and the conflict queries.
+ALTER TABLE bookings DROP CONSTRAINT IF EXISTS no_overlapping_bookings;
+ALTER TABLE bookings
+    ADD CONSTRAINT no_overlapping_bookings
+    EXCLUDE USING gist (facility_id WITH =, slot WITH &&)
+    WHERE (status != 'CANCELLED');
@@ -0,0 +1,34 @@
+-- Cold storage for finished bookings. BookingArchiveJob moves COMPLETED,
+-- CANCELLED and expired PENDING bookings older than the hot window here in
+-- chunks, so the bookings table (and its indexes and exclusion constraint)
+-- only holds recent and upcoming rows.
+--
+-- bookings itself is not declaratively partitioned: PostgreSQL 16 cannot
+-- put the no_overlapping_bookings exclusion constraint on a partitioned
+-- table, and the primary key would have to include date.
+CREATE TABLE IF NOT EXISTS bookings_archive (
+  id          BIGINT PRIMARY KEY,  -- same id it had in bookings
+  facility_id BIGINT NOT NULL REFERENCES facilities(id) ON DELETE CASCADE,
+  user_id     BIGINT NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+  date        DATE NOT NULL,
+  start_time  TIME NOT NULL,
+  end_time    TIME NOT NULL,
+  status      VARCHAR(30) NOT NULL,
+  purpose     VARCHAR(500),
+  series_id   BIGINT REFERENCES booking_series(id) ON DELETE SET NULL,
+  version     BIGINT NOT NULL DEFAULT 0,
+  change_seq  BIGINT,
+  created_at  TIMESTAMP,
+  updated_at  TIMESTAMP,
+  archived_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- History reads mirror the hot-table list queries
+CREATE INDEX IF NOT EXISTS idx_bookings_archive_user_date ON bookings_archive (user_id, date, start_time);
+CREATE INDEX IF NOT EXISTS idx_bookings_archive_facility_date ON bookings_archive (facility_id, date, start_time);
+CREATE INDEX IF NOT EXISTS idx_bookings_archive_date_id ON bookings_archive (date, id);
+
+-- Finished CONFIRMED bookings, for the job that marks them COMPLETED
+CREATE INDEX IF NOT EXISTS idx_bookings_confirmed_date
+    ON bookings (date, end_time)
+    WHERE status = 'CONFIRMED';
@@ -0,0 +1,153 @@
+package com.example.booking.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the token buckets, with a clock moved by hand. Rejections
+ * are checked on the plain 429 the filter sends when no exception resolver
+ * handles them; the rendered ApiError is covered by RateLimitResponseTest.
+ */
+class RateLimitFilterTest {
+
+    private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long SECONDS = TimeUnit.SECONDS.toNanos(1);
+
+    private final AtomicLong clock = new AtomicLong(1_000 * SECONDS);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void burstIsACeiling() {
+        RateLimitFilter filter = filter(1, 3, 1, 1, 100);
+        for (int i = 0; i < 3; i++) {
+            assertThat(get(filter, "10.0.0.1", "7").getStatus()).isEqualTo(200);
+        }
+        assertThat(get(filter, "10.0.0.1", "7").getStatus()).isEqualTo(429);
+
+        // A long pause refills the bucket, but never past the burst
+        clock.addAndGet(60 * SECONDS);
+        for (int i = 0; i < 3; i++) {
+            assertThat(get(filter, "10.0.0.1", "7").getStatus()).isEqualTo(200);
+        }
+        assertThat(get(filter, "10.0.0.1", "7").getStatus()).isEqualTo(429);
+        assertThat(meterRegistry.get("booking.rate-limit.rejected").tag("kind", "read").counter().count())
+                .isEqualTo(2);
+
+        // Other users, writes and non-API paths have their own limits or none
+        assertThat(get(filter, "10.0.0.1", "8").getStatus()).isEqualTo(200);
+        assertThat(post(filter, "10.0.0.1", "7").getStatus()).isEqualTo(200);
+        assertThat(send(filter, "GET", "/actuator/health", "10.0.0.1", "7").getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void tokensRefillOnePerInterval() {
+        RateLimitFilter filter = filter(2, 2, 1, 1, 100);
+        assertThat(get(filter, "10.0.0.1", "7").getStatus()).isEqualTo(200);
+        assertThat(get(filter, "10.0.0.1", "7").getStatus()).isEqualTo(200);
+        assertThat(get(filter, "10.0.0.1", "7").getStatus()).isEqualTo(429);
+
+        clock.addAndGet(499 * MILLIS);
+        assertThat(get(filter, "10.0.0.1", "7").getStatus()).isEqualTo(429);
+        clock.addAndGet(MILLIS);
+        assertThat(get(filter, "10.0.0.1", "7").getStatus()).isEqualTo(200);
+        assertThat(get(filter, "10.0.0.1", "7").getStatus()).isEqualTo(429);
+
+        clock.addAndGet(SECONDS);
+        assertThat(get(filter, "10.0.0.1", "7").getStatus()).isEqualTo(200);
+        assertThat(get(filter, "10.0.0.1", "7").getStatus()).isEqualTo(200);
+        assertThat(get(filter, "10.0.0.1", "7").getStatus()).isEqualTo(429);
+    }
+
+    @Test
+    void retryAfterIsRoundedUpToWholeSeconds() {
+        // One write every 4 s, no saving up
+        RateLimitFilter filter = filter(1, 1, 0.25, 1, 100);
+        long start = clock.get();
+        assertThat(post(filter, "10.0.0.1", "7").getStatus()).isEqualTo(200);
+
+        assertThat(retryAfter(post(filter, "10.0.0.1", "7"))).isEqualTo("4");
+        clock.set(start + 1);
+        assertThat(retryAfter(post(filter, "10.0.0.1", "7"))).isEqualTo("4");
+        clock.set(start + 1_500 * MILLIS);
+        assertThat(retryAfter(post(filter, "10.0.0.1", "7"))).isEqualTo("3");
+        clock.set(start + 4 * SECONDS - 1);
+        assertThat(retryAfter(post(filter, "10.0.0.1", "7"))).isEqualTo("1");
+        clock.set(start + 4 * SECONDS);
+        assertThat(post(filter, "10.0.0.1", "7").getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void addressLimitCoversEveryUserBehindIt() {
+        // Two writes per user, four per address
+        RateLimitFilter filter = filter(1, 1, 1, 2, 2);
+        for (String user : new String[] {"1", "1", "2", "2"}) {
+            assertThat(post(filter, "10.0.0.1", user).getStatus()).isEqualTo(200);
+        }
+        assertThat(post(filter, "10.0.0.1", "3").getStatus()).isEqualTo(429);
+        assertThat(post(filter, "10.0.0.1", null).getStatus()).isEqualTo(429);
+        assertThat(post(filter, "10.0.0.2", "3").getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void sweepDropsOnlyFullBuckets() {
+        RateLimitFilter filter = filter(1, 1, 1, 1, 1);
+        assertThat(get(filter, "10.1.0.1", "hog").getStatus()).isEqualTo(200);
+        for (int i = 0; i <= 10_000; i++) {
+            assertThat(get(filter, "10.2." + (i / 256) + "." + (i % 256), null).getStatus()).isEqualTo(200);
+        }
+        assertThat(filter.bucketCount()).isEqualTo(10_003);
+
+        // Every bucket has refilled; the hog then empties its own again
+        clock.addAndGet(SECONDS);
+        assertThat(get(filter, "10.1.0.1", "hog").getStatus()).isEqualTo(200);
+        assertThat(get(filter, "10.1.0.1", "hog").getStatus()).isEqualTo(429);
+
+        // A new client past the threshold sweeps the full buckets
+        assertThat(get(filter, "10.3.0.1", null).getStatus()).isEqualTo(200);
+        assertThat(filter.bucketCount()).isEqualTo(3);
+        assertThat(get(filter, "10.1.0.1", "hog").getStatus()).isEqualTo(429);
+    }
+
+    private RateLimitFilter filter(double readsPerSecond, int readBurst, double writesPerSecond, int writeBurst,
+            int ipFactor) {
+        return new RateLimitFilter(true, readsPerSecond, readBurst, writesPerSecond, writeBurst, ipFactor,
+                (request, response, handler, ex) -> null, meterRegistry, clock::get);
+    }
+
+    private static MockHttpServletResponse get(RateLimitFilter filter, String ip, String userId) {
+        return send(filter, "GET", "/api/bookings", ip, userId);
+    }
+
+    private static MockHttpServletResponse post(RateLimitFilter filter, String ip, String userId) {
+        return send(filter, "POST", "/api/bookings", ip, userId);
+    }
+
+    private static MockHttpServletResponse send(RateLimitFilter filter, String method, String uri, String ip,
+            String userId) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.setRemoteAddr(ip);
+        if (userId != null) {
+            request.addHeader(ReadYourWritesFilter.USER_HEADER, userId);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try {
+            filter.doFilter(request, response, new MockFilterChain());
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+        return response;
+    }
+
+    private static String retryAfter(MockHttpServletResponse response) {
+        assertThat(response.getStatus()).isEqualTo(429);
+        return response.getHeader("Retry-After");
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.booking.config;
+
+import com.example.booking.EmbeddedPostgresTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * A rate-limited request is answered by GlobalExceptionHandler like any
+ * other API error: a 429 ApiError body plus a Retry-After header. Reads are
+ * limited to one token that takes 100 s to come back.
+ */
+@AutoConfigureMockMvc
+@TestPropertySource(properties = {
+        "booking.rate-limit.enabled=true",
+        "booking.rate-limit.read.per-second=0.01",
+        "booking.rate-limit.read.burst=1"
+})
+class RateLimitResponseTest extends EmbeddedPostgresTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void rejectionIsAnApiErrorWithRetryAfter() throws Exception {
+        mockMvc.perform(get("/api/facilities").header(ReadYourWritesFilter.USER_HEADER, "429"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/facilities").header(ReadYourWritesFilter.USER_HEADER, "429"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "100"))
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.status").value(429))
+                .andExpect(jsonPath("$.error").value("Too Many Requests"))
+                .andExpect(jsonPath("$.message")
+                        .value("You are sending requests too quickly. Please wait a moment and try again."))
+                .andExpect(jsonPath("$.path").value("uri=/api/facilities"));
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.booking.dto;
+
+import com.example.booking.model.RecurrenceFrequency;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BookingSeriesRequestTest {
+
+    private static final String TOO_MANY = "Until allows more than 366 occurrences; use a closer date or a count";
+
+    private final Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @Test
+    void acceptsUntilWithExactly366Occurrences() {
+        BookingSeriesRequest request = daily(LocalDate.now().plusDays(1));
+        request.setUntil(request.getStartDate().plusDays(365));
+
+        assertThat(messages(request)).doesNotContain(TOO_MANY);
+    }
+
+    @Test
+    void rejectsUntilWithMoreThan366Occurrences() {
+        BookingSeriesRequest request = daily(LocalDate.now().plusDays(1));
+        request.setUntil(request.getStartDate().plusDays(366));
+
+        assertThat(messages(request)).contains(TOO_MANY);
+    }
+
+    @Test
+    void countsWeeklyOccurrencesByInterval() {
+        BookingSeriesRequest request = daily(LocalDate.now().plusDays(1));
+        request.setFrequency(RecurrenceFrequency.WEEKLY);
+        request.setInterval(2);
+        request.setUntil(request.getStartDate().plusYears(10));
+
+        assertThat(messages(request)).doesNotContain(TOO_MANY);
+
+        request.setUntil(request.getStartDate().plusWeeks(2 * 366));
+        assertThat(messages(request)).contains(TOO_MANY);
+    }
+
+    @Test
+    void countLimitsALongUntil() {
+        BookingSeriesRequest request = daily(LocalDate.now().plusDays(1));
+        request.setUntil(request.getStartDate().plusYears(5));
+        request.setCount(10);
+
+        assertThat(messages(request)).doesNotContain(TOO_MANY);
+    }
+
+    private BookingSeriesRequest daily(LocalDate startDate) {
+        BookingSeriesRequest request = new BookingSeriesRequest();
+        request.setUserId(1L);
+        request.setFacilityId(1L);
+        request.setStartDate(startDate);
+        request.setStartTime(LocalTime.of(10, 0));
+        request.setEndTime(LocalTime.of(11, 0));
+        request.setFrequency(RecurrenceFrequency.DAILY);
+        return request;
+    }
+
+    private Set<String> messages(BookingSeriesRequest request) {
+        return validator.validate(request).stream()
+                .map(ConstraintViolation::getMessage)
+                .collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.booking.repository;
+
+import com.example.booking.EmbeddedPostgresTest;
+import com.example.booking.config.SqlMonitor;
+import com.example.booking.model.TimeRange;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The hot booking queries must be answerable from an index once Flyway has
+ * built the schema. Each test runs a repository method, takes the SQL and
+ * parameters it sent from {@link SqlMonitor}, and EXPLAINs that statement
+ * with sequential scans disabled: PostgreSQL then still plans a Seq Scan on
+ * bookings only if no index fits the query.
+ */
+class BookingQueryPlanTest extends EmbeddedPostgresTest {
+
+    private static final LocalDate DATE = LocalDate.now().plusDays(1);
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private SqlMonitor sqlMonitor;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void existsConflictingBookingUsesAnIndex() {
+        assertNoSeqScanOnBookings(() -> bookingRepository.existsConflictingBooking(1L,
+                TimeRange.of(DATE, LocalTime.of(10, 0), LocalTime.of(11, 0)), null));
+        assertNoSeqScanOnBookings(() -> bookingRepository.existsConflictingBooking(1L,
+                TimeRange.of(DATE, LocalTime.of(10, 0), LocalTime.of(11, 0)), 5L));
+    }
+
+    @Test
+    void findActiveBookingsByFacilityAndDateUsesAnIndex() {
+        assertNoSeqScanOnBookings(() -> bookingRepository.findActiveBookingsByFacilityAndDate(1L, DATE));
+    }
+
+    @Test
+    void findByUserIdUsesAnIndex() {
+        assertNoSeqScanOnBookings(() -> bookingRepository.findByUserId(1L));
+        assertNoSeqScanOnBookings(() -> bookingRepository.findResponsesByUserId(1L));
+    }
+
+    private void assertNoSeqScanOnBookings(Runnable query) {
+        sqlMonitor.clearSlowestStatements();
+        query.run();
+        List<SqlMonitor.SlowStatement> statements = sqlMonitor.slowestStatements();
+        assertThat(statements).hasSize(1);
+
+        String sql = inline(statements.get(0));
+        String plan = explain(sql);
+        assertThat(plan).as("plan of %s", sql).doesNotContain("Seq Scan on bookings");
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET enable_seqscan = off");
+                StringBuilder plan = new StringBuilder();
+                try (ResultSet rows = statement.executeQuery("EXPLAIN " + sql)) {
+                    while (rows.next()) {
+                        plan.append(rows.getString(1)).append('\n');
+                    }
+                } finally {
+                    statement.execute("RESET enable_seqscan");
+                }
+                return plan.toString();
+            }
+        });
+    }
+
+    // Replaces each ? with its bound value as an untyped literal, which
+    // PostgreSQL types from the context just as it does a parameter
+    private static String inline(SqlMonitor.SlowStatement statement) {
+        List<String> values = statement.parameters().get(0);
+        StringBuilder sql = new StringBuilder();
+        int next = 0;
+        for (char c : statement.sql().toCharArray()) {
+            if (c == '?') {
+                String value = values.get(next++);
+                sql.append(value == null ? "NULL" : "'" + value.replace("'", "''") + "'");
+            } else {
+                sql.append(c);
+            }
+        }
+        assertThat(next).isEqualTo(values.size());
+        return sql.toString();
+    }
+}
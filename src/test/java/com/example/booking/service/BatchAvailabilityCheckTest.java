@@ -0,0 +1,104 @@
+package com.example.booking.service;
+
+import com.example.booking.EmbeddedPostgresTest;
+import com.example.booking.dto.AvailabilityCheckResult;
+import com.example.booking.dto.BatchAvailabilityRequest;
+import com.example.booking.dto.BookingRequest;
+import com.example.booking.model.Facility;
+import com.example.booking.model.Role;
+import com.example.booking.model.User;
+import com.example.booking.repository.FacilityRepository;
+import com.example.booking.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The sweep behind POST /api/bookings/check-availability/batch. One
+ * request mixes two facilities and two days, lists its slots out of start
+ * order, and includes slots that only touch a booking, that span several
+ * bookings, and that cover a cancelled one.
+ */
+class BatchAvailabilityCheckTest extends EmbeddedPostgresTest {
+
+    private static final LocalDate DAY = LocalDate.now().plusDays(5);
+
+    @Autowired
+    private AvailabilityService availabilityService;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private FacilityRepository facilityRepository;
+
+    @Test
+    void sweepsEveryFacilityDayAndAnswersInRequestOrder() {
+        long n = System.nanoTime();
+        User user = userRepository.save(new User("check-" + n + "@campus.test", "Check", "password", Role.STAFF));
+        Facility a = facilityRepository.save(new Facility("Check Room A " + n, "Test", 10));
+        Facility b = facilityRepository.save(new Facility("Check Room B " + n, "Test", 10));
+
+        Long a1 = book(user, a, DAY, 9, 0, 10, 0);
+        Long a2 = book(user, a, DAY, 10, 0, 11, 0);
+        Long a3 = book(user, a, DAY, 12, 0, 13, 0);
+        bookingService.cancelBooking(book(user, a, DAY, 14, 0, 15, 0));
+        Long a5 = book(user, a, DAY.plusDays(1), 9, 0, 10, 0);
+        Long b1 = book(user, b, DAY, 9, 30, 10, 30);
+
+        List<BatchAvailabilityRequest.Slot> slots = List.of(
+                slot(a, DAY, 11, 0, 12, 0),              // touches a2's end and a3's start
+                slot(a, DAY, 8, 0, 9, 0),                // touches a1's start
+                slot(a, DAY, 9, 30, 12, 30),             // spans a1, a2 and a3
+                slot(b, DAY, 9, 0, 10, 0),
+                slot(a, DAY.plusDays(1), 9, 0, 10, 0),
+                slot(a, DAY, 14, 0, 15, 0),              // only the cancelled booking
+                slot(a, DAY, 10, 0, 11, 0),
+                slot(b, DAY.plusDays(1), 9, 30, 10, 30), // no bookings that day
+                slot(a, DAY, 9, 59, 10, 1),              // straddles a1 and a2
+                slot(a, DAY, 9, 30, 12, 30));            // same slot asked twice
+
+        List<AvailabilityCheckResult> results = availabilityService.checkSlots(slots);
+
+        assertThat(results).hasSize(slots.size());
+        for (int i = 0; i < slots.size(); i++) {
+            assertThat(results.get(i).getFacilityId()).isEqualTo(slots.get(i).getFacilityId());
+            assertThat(results.get(i).getDate()).isEqualTo(slots.get(i).getDate());
+            assertThat(results.get(i).getStartTime()).isEqualTo(slots.get(i).getStartTime());
+            assertThat(results.get(i).getEndTime()).isEqualTo(slots.get(i).getEndTime());
+        }
+        assertThat(results).extracting(AvailabilityCheckResult::getConflictingBookingIds).containsExactly(
+                List.of(),
+                List.of(),
+                List.of(a1, a2, a3),
+                List.of(b1),
+                List.of(a5),
+                List.of(),
+                List.of(a2),
+                List.of(),
+                List.of(a1, a2),
+                List.of(a1, a2, a3));
+        assertThat(results).extracting(AvailabilityCheckResult::isAvailable).containsExactly(
+                true, true, false, false, false, true, false, true, false, false);
+    }
+
+    private Long book(User user, Facility facility, LocalDate date, int startHour, int startMinute, int endHour,
+            int endMinute) {
+        return bookingService.createBooking(new BookingRequest(user.getId(), facility.getId(), date,
+                LocalTime.of(startHour, startMinute), LocalTime.of(endHour, endMinute), "Check")).getId();
+    }
+
+    private static BatchAvailabilityRequest.Slot slot(Facility facility, LocalDate date, int startHour,
+            int startMinute, int endHour, int endMinute) {
+        return new BatchAvailabilityRequest.Slot(facility.getId(), date,
+                LocalTime.of(startHour, startMinute), LocalTime.of(endHour, endMinute));
+    }
+}
@@ -0,0 +1,172 @@
+package com.example.booking.service;
+
+import com.example.booking.EmbeddedPostgresTest;
+import com.example.booking.dto.BatchBookingRequest;
+import com.example.booking.dto.BatchBookingResponse;
+import com.example.booking.dto.BatchItemResult;
+import com.example.booking.dto.BookingRequest;
+import com.example.booking.dto.BookingResponse;
+import com.example.booking.dto.BookingTicket;
+import com.example.booking.model.Booking;
+import com.example.booking.model.Facility;
+import com.example.booking.model.Role;
+import com.example.booking.model.User;
+import com.example.booking.repository.BookingRepository;
+import com.example.booking.repository.FacilityRepository;
+import com.example.booking.repository.UserRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Queued admission against the real booking service. Requests are mostly
+ * submitted before the writers start, so they are drained in known batches.
+ */
+class BookingAdmissionQueueTest extends EmbeddedPostgresTest {
+
+    private static final LocalDate DAY = LocalDate.now().plusDays(3);
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private FacilityRepository facilityRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    private User user;
+
+    @BeforeEach
+    void createUser() {
+        user = userRepository.save(new User("queue-" + System.nanoTime() + "@campus.test", "Queue", "password",
+                Role.STAFF));
+    }
+
+    @Test
+    void eachFacilityIsDecidedInSubmissionOrder() {
+        List<Facility> facilities = List.of(facility(), facility(), facility());
+        BookingAdmissionQueue queue = new BookingAdmissionQueue(bookingService, true, 2, 50, 2, 5000);
+        List<List<BookingTicket>> tickets = new ArrayList<>();
+        facilities.forEach(f -> tickets.add(new ArrayList<>()));
+        // Interleaved across facilities; batches of two split each facility's requests
+        for (int round = 0; round < 4; round++) {
+            for (int f = 0; f < facilities.size(); f++) {
+                tickets.get(f).add(queue.submit(request(facilities.get(f), 10, 0, 11, 0)));
+            }
+        }
+        queue.start();
+        try {
+            for (List<BookingTicket> facilityTickets : tickets) {
+                assertThat(facilityTickets.stream().map(t -> status(queue, t)).toList()).containsExactly(
+                        BatchItemResult.Status.CREATED, BatchItemResult.Status.CONFLICT,
+                        BatchItemResult.Status.CONFLICT, BatchItemResult.Status.CONFLICT);
+                assertThat(queue.unwrap(queue.getTicket(facilityTickets.get(0).getId())).getStartTime())
+                        .isEqualTo(LocalTime.of(10, 0));
+            }
+        } finally {
+            queue.stop();
+        }
+    }
+
+    @Test
+    void failedBatchIsSettledItemByItem() {
+        Facility facility = facility();
+        // Saved behind the interval index's back, so only the exclusion constraint sees it
+        bookingRepository.save(new Booking(user, facility, DAY, LocalTime.of(10, 0), LocalTime.of(11, 0), "Direct"));
+
+        BookingAdmissionQueue queue = new BookingAdmissionQueue(bookingService, true, 1, 50, 10, 5000);
+        List<BookingTicket> tickets = List.of(
+                queue.submit(request(facility, 10, 0, 11, 0)),
+                queue.submit(request(facility, 12, 0, 13, 0)),
+                queue.submit(request(facility, 12, 30, 13, 30)));
+        queue.start();
+        try {
+            assertThat(tickets.stream().map(t -> status(queue, t)).toList()).containsExactly(
+                    BatchItemResult.Status.CONFLICT, BatchItemResult.Status.CREATED, BatchItemResult.Status.CONFLICT);
+        } finally {
+            queue.stop();
+        }
+        assertThat(bookingRepository.findActiveBookingsByFacilityAndDate(facility.getId(), DAY)).hasSize(2);
+    }
+
+    @Test
+    void ticketCanBePolledUntilDecided() {
+        Facility facility = facility();
+        BookingAdmissionQueue queue = new BookingAdmissionQueue(bookingService, true, 1, 50, 10, 5000);
+        BookingTicket submitted = queue.submit(request(facility, 15, 0, 16, 0));
+        assertThat(submitted.getState()).isEqualTo(BookingTicket.State.PENDING);
+        assertThat(queue.getTicket(submitted.getId()).getState()).isEqualTo(BookingTicket.State.PENDING);
+
+        queue.start();
+        try {
+            queue.await(submitted.getId());
+            BookingTicket polled = queue.getTicket(submitted.getId());
+            assertThat(polled.getState()).isEqualTo(BookingTicket.State.COMPLETED);
+            assertThat(polled.getResult().getStatus()).isEqualTo(BatchItemResult.Status.CREATED);
+            BookingResponse booking = queue.unwrap(polled);
+            assertThat(bookingRepository.findById(booking.getId())).isPresent();
+        } finally {
+            queue.stop();
+        }
+        assertThatThrownBy(() -> queue.getTicket("no-such-ticket")).isInstanceOf(EntityNotFoundException.class);
+    }
+
+    @Test
+    void errorFailsOnlyItsBatch() {
+        BookingService failing = mock(BookingService.class);
+        when(failing.createBookings(any()))
+                .thenThrow(new OutOfMemoryError("simulated"))
+                .thenAnswer(call -> {
+                    BatchBookingRequest batch = call.getArgument(0);
+                    return new BatchBookingResponse(batch.getMode(), batch.getBookings().stream()
+                            .map(item -> new BatchItemResult(0, BatchItemResult.Status.CREATED, null))
+                            .toList());
+                });
+        BookingAdmissionQueue queue = new BookingAdmissionQueue(failing, true, 1, 50, 10, 5000);
+        queue.start();
+        try {
+            BookingTicket first = queue.await(queue.submit(new BookingRequest(1L, 1L, DAY,
+                    LocalTime.of(9, 0), LocalTime.of(10, 0), "First")).getId());
+            assertThat(first.getState()).isEqualTo(BookingTicket.State.FAILED);
+            assertThatThrownBy(() -> queue.unwrap(first)).hasCauseInstanceOf(OutOfMemoryError.class);
+
+            // The partition's writer survived and serves the next request
+            BookingTicket second = queue.await(queue.submit(new BookingRequest(1L, 1L, DAY,
+                    LocalTime.of(9, 0), LocalTime.of(10, 0), "Second")).getId());
+            assertThat(second.getState()).isEqualTo(BookingTicket.State.COMPLETED);
+        } finally {
+            queue.stop();
+        }
+    }
+
+    private Facility facility() {
+        return facilityRepository.save(new Facility("Queue Room " + System.nanoTime(), "Test", 10));
+    }
+
+    private BookingRequest request(Facility facility, int startHour, int startMinute, int endHour, int endMinute) {
+        return new BookingRequest(user.getId(), facility.getId(), DAY,
+                LocalTime.of(startHour, startMinute), LocalTime.of(endHour, endMinute), "Queued");
+    }
+
+    private static BatchItemResult.Status status(BookingAdmissionQueue queue, BookingTicket ticket) {
+        BookingTicket decided = queue.await(ticket.getId());
+        assertThat(decided.getState()).isEqualTo(BookingTicket.State.COMPLETED);
+        return decided.getResult().getStatus();
+    }
+}
@@ -0,0 +1,188 @@
+package com.example.booking.service;
+
+import com.example.booking.repository.BookingRepository;
+import com.example.booking.repository.BookingSlot;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the in-memory interval index. Transactions are simulated by
+ * binding synchronizations to the test thread and completing them by hand,
+ * so each test controls exactly when a reservation commits or rolls back.
+ */
+class BookingIntervalIndexTest {
+
+    private static final Long FACILITY = 1L;
+    private static final LocalDate DAY = LocalDate.now().plusDays(1);
+
+    private final BookingRepository bookingRepository = mock(BookingRepository.class);
+    private final BookingIntervalIndex index = new BookingIntervalIndex(bookingRepository);
+
+    @BeforeEach
+    void emptyDatabase() {
+        when(bookingRepository.findActiveSlotsFrom(any())).thenReturn(List.of());
+        when(bookingRepository.findActiveSlotsOn(anyCollection(), anyCollection())).thenReturn(List.of());
+        index.rebuild();
+    }
+
+    @AfterEach
+    void clearTransaction() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void halfOpenBoundaries() {
+        assertThat(index.reserve(FACILITY, DAY, time(10, 0), time(11, 0), 1L)).isNotNull();
+
+        assertThat(index.hasConflict(FACILITY, DAY, time(9, 0), time(10, 0), null)).isFalse();
+        assertThat(index.hasConflict(FACILITY, DAY, time(11, 0), time(12, 0), null)).isFalse();
+        assertThat(index.hasConflict(FACILITY, DAY, time(10, 59), time(11, 30), null)).isTrue();
+        assertThat(index.hasConflict(FACILITY, DAY, time(9, 0), time(10, 1), null)).isTrue();
+        assertThat(index.hasConflict(FACILITY, DAY, time(10, 0), time(11, 0), 1L)).isFalse();
+
+        assertThat(index.reserve(FACILITY, DAY, time(11, 0), time(12, 0), 2L)).isNotNull();
+        assertThat(index.reserve(FACILITY, DAY, time(9, 0), time(10, 0), 3L)).isNotNull();
+        assertThat(index.reserve(FACILITY, DAY, time(9, 30), time(10, 30), 4L)).isNull();
+    }
+
+    @Test
+    void rollbackReleasesTheReservation() {
+        beginTransaction();
+        assertThat(index.reserve(FACILITY, DAY, time(10, 0), time(11, 0), null)).isNotNull();
+        assertThat(index.reserve(FACILITY, DAY, time(10, 30), time(11, 30), null)).isNull();
+        completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertThat(index.hasConflict(FACILITY, DAY, time(10, 0), time(11, 0), null)).isFalse();
+        assertThat(index.reserve(FACILITY, DAY, time(10, 30), time(11, 30), 2L)).isNotNull();
+    }
+
+    @Test
+    void commitKeepsTheReservation() {
+        beginTransaction();
+        BookingIntervalIndex.Interval interval = index.reserve(FACILITY, DAY, time(10, 0), time(11, 0), null);
+        interval.setBookingId(7L);
+        completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+
+        assertThat(index.find(FACILITY, DAY, 7L)).isSameAs(interval);
+        assertThat(index.hasConflict(FACILITY, DAY, time(10, 30), time(11, 30), null)).isTrue();
+    }
+
+    @Test
+    void reloadKeepsPendingReservationsAndDropsStaleOnes() {
+        index.reserve(FACILITY, DAY, time(8, 0), time(9, 0), 1L);
+        beginTransaction();
+        index.reserve(FACILITY, DAY, time(10, 0), time(11, 0), 2L);
+
+        // Booking 1 was cancelled elsewhere; booking 3 was made elsewhere
+        when(bookingRepository.findActiveSlotsOn(List.of(FACILITY), List.of(DAY)))
+                .thenReturn(List.of(slot(3L, time(13, 0), time(14, 0))));
+        index.reload(FACILITY, List.of(DAY));
+
+        assertThat(index.find(FACILITY, DAY, 1L)).isNull();
+        assertThat(index.find(FACILITY, DAY, 2L)).isNotNull();
+        assertThat(index.find(FACILITY, DAY, 3L)).isNotNull();
+
+        completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+        assertThat(index.find(FACILITY, DAY, 2L)).isNull();
+        assertThat(index.find(FACILITY, DAY, 3L)).isNotNull();
+    }
+
+    @Test
+    void reloadKeepsABookingCommittedWhileItReads() {
+        beginTransaction();
+        index.reserve(FACILITY, DAY, time(10, 0), time(11, 0), 2L);
+
+        // The writer commits after the read's snapshot was taken, so the read misses it
+        when(bookingRepository.findActiveSlotsOn(List.of(FACILITY), List.of(DAY))).thenAnswer(call -> {
+            completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+            return List.of();
+        });
+        index.reload(FACILITY, List.of(DAY));
+        assertThat(index.hasConflict(FACILITY, DAY, time(10, 0), time(11, 0), null)).isTrue();
+
+        // A later read that began after the commit decides for itself
+        doReturn(List.of()).when(bookingRepository).findActiveSlotsOn(List.of(FACILITY), List.of(DAY));
+        index.reload(FACILITY, List.of(DAY));
+        assertThat(index.hasConflict(FACILITY, DAY, time(10, 0), time(11, 0), null)).isFalse();
+    }
+
+    @Test
+    void reloadDoesNotDuplicateABookingItAlsoRead() {
+        beginTransaction();
+        index.reserve(FACILITY, DAY, time(10, 0), time(11, 0), 2L);
+        when(bookingRepository.findActiveSlotsOn(List.of(FACILITY), List.of(DAY))).thenAnswer(call -> {
+            completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+            return List.of(slot(2L, time(10, 0), time(11, 0)));
+        });
+        index.reload(FACILITY, List.of(DAY));
+
+        index.release(index.find(FACILITY, DAY, 2L));
+        assertThat(index.hasConflict(FACILITY, DAY, time(10, 0), time(11, 0), null)).isFalse();
+    }
+
+    @Test
+    void removeAfterReloadDropsTheReloadedCopy() {
+        BookingIntervalIndex.Interval interval = index.reserve(FACILITY, DAY, time(10, 0), time(11, 0), 5L);
+        when(bookingRepository.findActiveSlotsOn(List.of(FACILITY), List.of(DAY)))
+                .thenReturn(List.of(slot(5L, time(10, 0), time(11, 0))));
+        index.reload(FACILITY, List.of(DAY));
+        assertThat(index.find(FACILITY, DAY, 5L)).isNotSameAs(interval);
+
+        index.release(interval);
+        assertThat(index.find(FACILITY, DAY, 5L)).isNull();
+        assertThat(index.hasConflict(FACILITY, DAY, time(10, 0), time(11, 0), null)).isFalse();
+    }
+
+    @Test
+    void releaseOnCommitWaitsForTheCommit() {
+        index.reserve(FACILITY, DAY, time(10, 0), time(11, 0), 5L);
+
+        beginTransaction();
+        index.releaseOnCommit(index.find(FACILITY, DAY, 5L));
+        assertThat(index.find(FACILITY, DAY, 5L)).isNotNull();
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+
+        assertThat(index.find(FACILITY, DAY, 5L)).isNull();
+    }
+
+    private static void beginTransaction() {
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    private static void completeTransaction(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+
+    private static LocalTime time(int hour, int minute) {
+        return LocalTime.of(hour, minute);
+    }
+
+    private static BookingSlot slot(Long id, LocalTime start, LocalTime end) {
+        return new BookingSlot() {
+            public Long getId() { return id; }
+            public Long getFacilityId() { return FACILITY; }
+            public LocalDate getDate() { return DAY; }
+            public LocalTime getStartTime() { return start; }
+            public LocalTime getEndTime() { return end; }
+        };
+    }
+}
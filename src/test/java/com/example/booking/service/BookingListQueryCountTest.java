@@ -0,0 +1,102 @@
+package com.example.booking.service;
+
+import com.example.booking.EmbeddedPostgresTest;
+import com.example.booking.dto.BookingFilter;
+import com.example.booking.dto.BookingResponse;
+import com.example.booking.model.Booking;
+import com.example.booking.model.BookingStatus;
+import com.example.booking.model.Facility;
+import com.example.booking.model.Role;
+import com.example.booking.model.User;
+import com.example.booking.repository.BookingRepository;
+import com.example.booking.repository.FacilityRepository;
+import com.example.booking.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The booking list paths load BookingResponse rows with one projection
+ * query, so the number of statements must not grow with the number of
+ * bookings returned.
+ */
+class BookingListQueryCountTest extends EmbeddedPostgresTest {
+
+    // The projection query, plus the existence check of the user or facility
+    private static final long MAX_STATEMENTS = 2;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private FacilityRepository facilityRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 100})
+    void listsRunAFixedNumberOfStatements(int bookings) {
+        User user = userRepository.save(new User("list-" + bookings + "@campus.test", "List " + bookings,
+                "password", Role.STUDENT));
+        Facility facility = facilityRepository.save(new Facility("List Room " + bookings, "Test", 10));
+        seed(user, facility, bookings);
+
+        BookingFilter byFacility = new BookingFilter();
+        byFacility.setFacilityId(facility.getId());
+        assertThat(statementsFor(() -> bookingService.getBookingsPage(byFacility, null, bookings).getItems(),
+                bookings)).isLessThanOrEqualTo(MAX_STATEMENTS);
+        assertThat(statementsFor(() -> bookingService.getBookingsByUser(user.getId(), false), bookings))
+                .isLessThanOrEqualTo(MAX_STATEMENTS);
+        assertThat(statementsFor(() -> bookingService.getBookingsByFacility(facility.getId(), false), bookings))
+                .isLessThanOrEqualTo(MAX_STATEMENTS);
+        assertThat(statementsFor(() -> {
+            List<BookingResponse> exported = new ArrayList<>();
+            bookingService.exportBookings(byFacility, exported::add);
+            return exported;
+        }, bookings)).isLessThanOrEqualTo(MAX_STATEMENTS);
+    }
+
+    private void seed(User user, Facility facility, int bookings) {
+        LocalDate firstDate = LocalDate.now().plusDays(1);
+        List<Booking> rows = new ArrayList<>(bookings);
+        for (int i = 0; i < bookings; i++) {
+            Booking booking = new Booking(user, facility, firstDate.plusDays(i),
+                    LocalTime.of(10, 0), LocalTime.of(11, 0), "Query count " + i);
+            booking.setStatus(BookingStatus.CONFIRMED);
+            rows.add(booking);
+        }
+        bookingRepository.saveAll(rows);
+    }
+
+    private long statementsFor(Supplier<List<BookingResponse>> listing, int expectedRows) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        long before = statistics.getPrepareStatementCount();
+        List<BookingResponse> rows = listing.get();
+        long statements = statistics.getPrepareStatementCount() - before;
+
+        assertThat(rows).hasSize(expectedRows);
+        assertThat(rows).allSatisfy(row -> {
+            assertThat(row.getUserName()).isNotNull();
+            assertThat(row.getFacilityName()).isNotNull();
+        });
+        return statements;
+    }
+}
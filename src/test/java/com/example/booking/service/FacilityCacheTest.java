@@ -0,0 +1,81 @@
+package com.example.booking.service;
+
+import com.example.booking.EmbeddedPostgresTest;
+import com.example.booking.model.Facility;
+import com.example.booking.repository.FacilityRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Facility cache entries must be evicted or refreshed only once the write
+ * commits. Each test writes inside a transaction, reads the facility from
+ * another thread before the commit (which sees the old row), and checks
+ * that the cache serves the new state after the commit.
+ */
+class FacilityCacheTest extends EmbeddedPostgresTest {
+
+    @Autowired
+    private FacilityService facilityService;
+
+    @Autowired
+    private FacilityRepository facilityRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Facility facility;
+
+    @BeforeEach
+    void createFacility() {
+        facility = facilityRepository.save(new Facility("Cache Room " + System.nanoTime(), "Test", 10));
+    }
+
+    @Test
+    void closingAFacilityEvictsAfterCommit() {
+        assertThat(facilityService.getFacilityById(facility.getId()).getIsAvailable()).isTrue();
+        assertThat(availableIds()).contains(facility.getId());
+
+        Facility closed = new Facility(facility.getName(), facility.getLocation(), facility.getCapacity());
+        closed.setIsAvailable(false);
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            facilityService.updateFacility(facility.getId(), closed);
+            onOtherThread(() -> facilityService.getFacilityById(facility.getId()));
+            onOtherThread(this::availableIds);
+        });
+
+        assertThat(facilityService.getFacilityById(facility.getId()).getIsAvailable()).isFalse();
+        assertThat(availableIds()).doesNotContain(facility.getId());
+    }
+
+    @Test
+    void deletingAFacilityEvictsAfterCommit() {
+        facilityService.getFacilityById(facility.getId());
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            facilityService.deleteFacility(facility.getId());
+            assertThat(onOtherThread(() -> facilityService.getFacilityById(facility.getId()))).isNotNull();
+        });
+
+        assertThatThrownBy(() -> facilityService.getFacilityById(facility.getId()))
+                .isInstanceOf(EntityNotFoundException.class);
+    }
+
+    private List<Long> availableIds() {
+        return facilityService.getAvailableFacilities().stream().map(Facility::getId).toList();
+    }
+
+    private static <T> T onOtherThread(Supplier<T> read) {
+        return CompletableFuture.supplyAsync(read).join();
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.booking.service;
+
+import com.example.booking.EmbeddedPostgresTest;
+import com.example.booking.dto.BookingEvent;
+import com.example.booking.dto.BookingRequest;
+import com.example.booking.dto.BookingResponse;
+import com.example.booking.model.Facility;
+import com.example.booking.model.Role;
+import com.example.booking.model.User;
+import com.example.booking.repository.FacilityRepository;
+import com.example.booking.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Deleting a facility cascades to its bookings; stream subscribers must
+ * hear about each of them just as if it had been deleted on its own.
+ */
+@RecordApplicationEvents
+class FacilityDeletionEventsTest extends EmbeddedPostgresTest {
+
+    private static final LocalDate DAY = LocalDate.now().plusDays(4);
+
+    @Autowired
+    private FacilityService facilityService;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private FacilityRepository facilityRepository;
+
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
+    @Test
+    void publishesDeletedForEachCascadedBooking() {
+        long n = System.nanoTime();
+        User user = userRepository.save(new User("facility-delete-" + n + "@campus.test", "Delete", "password",
+                Role.STAFF));
+        Facility facility = facilityRepository.save(new Facility("Delete Room " + n, "Test", 10));
+        BookingResponse first = bookingService.createBooking(new BookingRequest(user.getId(), facility.getId(),
+                DAY, LocalTime.of(9, 0), LocalTime.of(10, 0), "First"));
+        BookingResponse second = bookingService.createBooking(new BookingRequest(user.getId(), facility.getId(),
+                DAY.plusDays(1), LocalTime.of(9, 0), LocalTime.of(10, 0), "Second"));
+        bookingService.cancelBooking(second.getId());
+        applicationEvents.clear();
+
+        facilityService.deleteFacility(facility.getId());
+
+        List<BookingEvent> deleted = applicationEvents.stream(BookingEvent.class)
+                .filter(event -> event.getType() == BookingEvent.Type.DELETED)
+                .toList();
+        assertThat(deleted)
+                .extracting(BookingEvent::getBookingId, BookingEvent::getFacilityId, BookingEvent::getDate)
+                .containsExactlyInAnyOrder(
+                        tuple(first.getId(), facility.getId(), DAY),
+                        tuple(second.getId(), facility.getId(), DAY.plusDays(1)));
+    }
+}
@@ -0,0 +1,170 @@
+package com.example.booking.service;
+
+import com.example.booking.EmbeddedPostgresTest;
+import com.example.booking.dto.BatchBookingRequest;
+import com.example.booking.dto.BookingRequest;
+import com.example.booking.dto.BookingResponse;
+import com.example.booking.dto.BookingSeriesRequest;
+import com.example.booking.dto.BookingSeriesResponse;
+import com.example.booking.dto.BookingSeriesUpdateRequest;
+import com.example.booking.dto.BookingTicket;
+import com.example.booking.model.Facility;
+import com.example.booking.model.RecurrenceFrequency;
+import com.example.booking.model.Role;
+import com.example.booking.model.User;
+import com.example.booking.repository.FacilityRepository;
+import com.example.booking.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Every write path must leave facility_utilization equal to a full
+ * recomputation from the facility's active bookings. Each test books on its
+ * own facility and compares the two after every write.
+ */
+class FacilityUtilizationRollupTest extends EmbeddedPostgresTest {
+
+    // The rollup's own split of a booking into hours, applied to all active bookings
+    private static final String RECOMPUTED =
+            "SELECT b.date, CAST(h.hour_of_day AS INTEGER) AS hour_of_day, " +
+            "  CAST(SUM(LEAST(b.e, (h.hour_of_day + 1) * 60) - GREATEST(b.s, h.hour_of_day * 60)) AS BIGINT) " +
+            "  AS booked_minutes " +
+            "FROM (SELECT date, CAST(EXTRACT(EPOCH FROM start_time) AS INTEGER) / 60 AS s, " +
+            "        CAST(EXTRACT(EPOCH FROM end_time) AS INTEGER) / 60 AS e " +
+            "      FROM bookings WHERE facility_id = ? AND status <> 'CANCELLED') b " +
+            "CROSS JOIN LATERAL generate_series(b.s / 60, (b.e - 1) / 60) AS h(hour_of_day) " +
+            "GROUP BY b.date, h.hour_of_day ORDER BY 1, 2";
+
+    private static final String STORED =
+            "SELECT date, CAST(hour_of_day AS INTEGER) AS hour_of_day, " +
+            "  CAST(booked_minutes AS BIGINT) AS booked_minutes FROM facility_utilization " +
+            "WHERE facility_id = ? AND booked_minutes <> 0 ORDER BY 1, 2";
+
+    private static final LocalDate DAY = LocalDate.now().plusDays(2);
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private BookingSeriesService bookingSeriesService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private FacilityRepository facilityRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User user;
+    private Facility facility;
+
+    @BeforeEach
+    void createFacility() {
+        long n = System.nanoTime();
+        user = userRepository.save(new User("rollup-" + n + "@campus.test", "Rollup", "password", Role.STAFF));
+        facility = facilityRepository.save(new Facility("Rollup Room " + n, "Test", 10));
+    }
+
+    @Test
+    void singleBookingWrites() {
+        BookingResponse booking = bookingService.createBooking(request(DAY, 9, 30, 11, 15));
+        assertRollupMatches();
+        assertThat(storedMinutes()).isEqualTo(105);
+
+        bookingService.updateBooking(booking.getId(), request(DAY.plusDays(1), 13, 0, 14, 45));
+        assertRollupMatches();
+
+        bookingService.cancelBooking(booking.getId());
+        assertRollupMatches();
+        assertThat(storedMinutes()).isZero();
+
+        BookingResponse other = bookingService.createBooking(request(DAY, 8, 0, 9, 0));
+        bookingService.deleteBooking(other.getId());
+        assertRollupMatches();
+        assertThat(storedMinutes()).isZero();
+    }
+
+    @Test
+    void batchWrites() {
+        bookingService.createBookings(new BatchBookingRequest(BatchBookingRequest.Mode.ALL_OR_NOTHING, List.of(
+                request(DAY, 8, 0, 10, 0), request(DAY, 10, 0, 10, 30), request(DAY.plusDays(1), 15, 10, 17, 50))));
+        assertRollupMatches();
+
+        // The second item conflicts and is skipped; only the others count
+        bookingService.createBookings(new BatchBookingRequest(BatchBookingRequest.Mode.PARTIAL, List.of(
+                request(DAY, 12, 0, 13, 0), request(DAY, 9, 0, 9, 30), request(DAY.plusDays(2), 8, 0, 20, 0))));
+        assertRollupMatches();
+        assertThat(storedMinutes()).isEqualTo(120 + 30 + 160 + 60 + 720);
+    }
+
+    @Test
+    void seriesWrites() {
+        BookingSeriesRequest request = new BookingSeriesRequest();
+        request.setUserId(user.getId());
+        request.setFacilityId(facility.getId());
+        request.setStartDate(DAY);
+        request.setStartTime(LocalTime.of(10, 0));
+        request.setEndTime(LocalTime.of(11, 30));
+        request.setFrequency(RecurrenceFrequency.WEEKLY);
+        request.setCount(4);
+        BookingSeriesResponse series = bookingSeriesService.createSeries(request);
+        assertRollupMatches();
+
+        BookingSeriesUpdateRequest reschedule = new BookingSeriesUpdateRequest();
+        reschedule.setStartTime(LocalTime.of(14, 45));
+        reschedule.setEndTime(LocalTime.of(16, 0));
+        bookingSeriesService.updateSeries(series.getId(), reschedule);
+        assertRollupMatches();
+        assertThat(storedMinutes()).isEqualTo(4 * 75);
+
+        bookingSeriesService.cancelSeries(series.getId());
+        assertRollupMatches();
+        assertThat(storedMinutes()).isZero();
+    }
+
+    @Test
+    void admissionQueueWrites() {
+        BookingAdmissionQueue queue = new BookingAdmissionQueue(bookingService, true, 1, 10, 50, 5000);
+        queue.start();
+        try {
+            BookingTicket first = queue.submit(request(DAY, 11, 0, 12, 0));
+            BookingTicket second = queue.submit(request(DAY, 11, 30, 12, 30));
+            BookingTicket third = queue.submit(request(DAY, 18, 20, 19, 40));
+            for (BookingTicket ticket : List.of(first, second, third)) {
+                assertThat(queue.await(ticket.getId()).getState()).isNotEqualTo(BookingTicket.State.PENDING);
+            }
+        } finally {
+            queue.stop();
+        }
+        assertRollupMatches();
+        assertThat(storedMinutes()).isEqualTo(60 + 80);
+    }
+
+    private BookingRequest request(LocalDate date, int startHour, int startMinute, int endHour, int endMinute) {
+        return new BookingRequest(user.getId(), facility.getId(), date,
+                LocalTime.of(startHour, startMinute), LocalTime.of(endHour, endMinute), "Rollup check");
+    }
+
+    private void assertRollupMatches() {
+        List<Map<String, Object>> recomputed = jdbcTemplate.queryForList(RECOMPUTED, facility.getId());
+        List<Map<String, Object>> stored = jdbcTemplate.queryForList(STORED, facility.getId());
+        assertThat(stored).isEqualTo(recomputed);
+    }
+
+    private long storedMinutes() {
+        return jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(booked_minutes), 0) FROM facility_utilization WHERE facility_id = ?",
+                Long.class, facility.getId());
+    }
+}